@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.groovyscripting.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.tools.GroovyClass;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovySystem;
+import groovy.transform.CompileStatic;
+
+/**
+ * A {@link GroovyClassLoader} which stores the classes compiled from a script in a cache directory, keyed by a hash of
+ * the script text and of the environment it was compiled in. Unchanged scripts are loaded from the stored bytecode
+ * instead of being compiled again, also after a restart. Only the most recently used scripts are kept, so the classes
+ * of edited and removed scripts do not pile up. Scripts can optionally be compiled as if they were annotated with
+ * {@link CompileStatic}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CachingGroovyClassLoader extends GroovyClassLoader {
+
+    private static final String INDEX_FILE = "classes.idx";
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private final Logger logger = LoggerFactory.getLogger(CachingGroovyClassLoader.class);
+
+    private final CompilerConfiguration config;
+    private final boolean compileStatic;
+    private final @Nullable Path cacheDirectory;
+    private final String environment;
+    private final int maxCachedScripts;
+
+    /**
+     * @param parent the class loader shared by all scripts
+     * @param compileStatic whether scripts are statically compiled
+     * @param cacheDirectory the directory to store compiled classes in, or null to not store them
+     * @param environment describes the classes scripts are compiled against, e.g. the versions of openHAB and its
+     *            bundles, stored classes are only reused in the same environment
+     * @param maxCachedScripts the number of scripts to keep the compiled classes of
+     */
+    public CachingGroovyClassLoader(ClassLoader parent, boolean compileStatic, @Nullable Path cacheDirectory,
+            String environment, int maxCachedScripts) {
+        this(parent, createConfiguration(compileStatic), compileStatic, cacheDirectory, environment,
+                maxCachedScripts);
+    }
+
+    private CachingGroovyClassLoader(ClassLoader parent, CompilerConfiguration config, boolean compileStatic,
+            @Nullable Path cacheDirectory, String environment, int maxCachedScripts) {
+        super(parent, config);
+        this.config = config;
+        this.compileStatic = compileStatic;
+        this.cacheDirectory = cacheDirectory;
+        this.environment = environment;
+        this.maxCachedScripts = maxCachedScripts;
+    }
+
+    private static CompilerConfiguration createConfiguration(boolean compileStatic) {
+        CompilerConfiguration config = new CompilerConfiguration(CompilerConfiguration.DEFAULT);
+        if (compileStatic) {
+            config.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+        }
+        return config;
+    }
+
+    @Override
+    public @Nullable Class parseClass(@Nullable GroovyCodeSource codeSource, boolean shouldCacheSource)
+            throws CompilationFailedException {
+        Path cacheDirectory = this.cacheDirectory;
+        if (codeSource == null || cacheDirectory == null) {
+            return super.parseClass(codeSource, shouldCacheSource);
+        }
+
+        Path scriptDirectory = cacheDirectory.resolve(hash(codeSource.getScriptText()));
+        Class<?> cachedClass = loadCachedClasses(scriptDirectory);
+        if (cachedClass != null) {
+            return cachedClass;
+        }
+
+        CompilationUnit unit = new CompilationUnit(config, codeSource.getCodeSource(), this);
+        SourceUnit sourceUnit = unit.addSource(codeSource.getName(), codeSource.getScriptText());
+        unit.compile(Phases.CLASS_GENERATION);
+
+        // like GroovyClassLoader, the first class of the module is the one representing the script
+        String mainClassName = sourceUnit.getAST().getClasses().get(0).getName();
+        List<GroovyClass> classes = unit.getClasses();
+        storeClasses(scriptDirectory, mainClassName, classes);
+        pruneCache(cacheDirectory);
+
+        InnerLoader loader = new InnerLoader(this);
+        Class<?> mainClass = null;
+        for (GroovyClass groovyClass : classes) {
+            Class<?> definedClass = loader.defineClass(groovyClass.getName(), groovyClass.getBytes());
+            if (groovyClass.getName().equals(mainClassName)) {
+                mainClass = definedClass;
+            }
+        }
+        if (mainClass == null) {
+            throw new IllegalStateException("Script compilation did not produce class " + mainClassName);
+        }
+        return mainClass;
+    }
+
+    private @Nullable Class<?> loadCachedClasses(Path scriptDirectory) {
+        Path indexFile = scriptDirectory.resolve(INDEX_FILE);
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+        try {
+            // the first line is the script class, followed by the other classes compiled from the script
+            List<String> classNames = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+            List<byte[]> classBytes = new ArrayList<>(classNames.size());
+            for (String className : classNames) {
+                classBytes.add(Files.readAllBytes(scriptDirectory.resolve(className + CLASS_FILE_EXTENSION)));
+            }
+            InnerLoader loader = new InnerLoader(this);
+            Class<?> mainClass = null;
+            for (int i = 0; i < classNames.size(); i++) {
+                Class<?> definedClass = loader.defineClass(classNames.get(i), classBytes.get(i));
+                if (mainClass == null) {
+                    mainClass = definedClass;
+                }
+            }
+            logger.debug("Loaded script class {} from {}", classNames.get(0), scriptDirectory);
+            markUsed(indexFile);
+            return mainClass;
+        } catch (IOException | LinkageError | IndexOutOfBoundsException e) {
+            logger.debug("Failed to load compiled script from {}, compiling it again: {}", scriptDirectory,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeClasses(Path scriptDirectory, String mainClassName, List<GroovyClass> classes) {
+        try {
+            Files.createDirectories(scriptDirectory);
+            List<String> classNames = new ArrayList<>(classes.size());
+            classNames.add(mainClassName);
+            for (GroovyClass groovyClass : classes) {
+                Files.write(scriptDirectory.resolve(groovyClass.getName() + CLASS_FILE_EXTENSION),
+                        groovyClass.getBytes());
+                if (!groovyClass.getName().equals(mainClassName)) {
+                    classNames.add(groovyClass.getName());
+                }
+            }
+            // written last, so only complete entries are used
+            Files.write(scriptDirectory.resolve(INDEX_FILE), classNames, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.debug("Failed to store compiled script in {}: {}", scriptDirectory, e.getMessage());
+        }
+    }
+
+    private void markUsed(Path indexFile) {
+        try {
+            // the modification time of the index is the last time the entry was used, see pruneCache
+            Files.setLastModifiedTime(indexFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.debug("Failed to update the modification time of {}: {}", indexFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries if the cache holds more than the maximum number of scripts.
+     */
+    private void pruneCache(Path cacheDirectory) {
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            for (Path entry : entries.filter(Files::isDirectory).collect(Collectors.toList())) {
+                lastUsed.put(entry, lastUsed(entry));
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to list the compiled scripts in {}: {}", cacheDirectory, e.getMessage());
+            return;
+        }
+        if (lastUsed.size() <= maxCachedScripts) {
+            return;
+        }
+        List<Path> unused = lastUsed.keySet().stream()
+                .sorted(Comparator.comparing((Path entry) -> lastUsed.get(entry)).reversed()).skip(maxCachedScripts)
+                .collect(Collectors.toList());
+        for (Path entry : unused) {
+            deleteEntry(entry);
+        }
+    }
+
+    private FileTime lastUsed(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry.resolve(INDEX_FILE));
+        } catch (IOException e) {
+            // incomplete entries are removed first
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void deleteEntry(Path entry) {
+        try (Stream<Path> files = Files.list(entry)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(entry);
+            logger.debug("Removed unused compiled script {}", entry);
+        } catch (IOException e) {
+            logger.debug("Failed to remove unused compiled script {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private String hash(String scriptText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // classes compiled by another Groovy version, against other openHAB classes or with other compiler
+            // settings must not be reused
+            digest.update(GroovySystem.getVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(environment.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) (compileStatic ? 1 : 0));
+            digest.update(scriptText.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -12,33 +12,88 @@
  */
 package org.openhab.automation.groovyscripting.internal;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.script.ScriptEngine;
 
+import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.AbstractScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.Script;
+
 /**
  * This is an implementation of a {@link ScriptEngineFactory} for Groovy.
  *
  * @author Wouter Born - Initial contribution
  */
-@Component(service = ScriptEngineFactory.class)
+@Component(service = ScriptEngineFactory.class, configurationPid = "org.openhab.groovyscripting")
 @NonNullByDefault
 public class GroovyScriptEngineFactory extends AbstractScriptEngineFactory {
 
+    private static final String CONFIG_COMPILE_STATIC = "compileStatic";
+    private static final String CONFIG_CACHE_COMPILED_SCRIPTS = "cacheCompiledScripts";
+
+    private static final Path CACHE_DIRECTORY = Paths.get(OpenHAB.getUserDataFolder(), "cache",
+            GroovyScriptEngineFactory.class.getPackageName(), "classes");
+    private static final int MAX_CACHED_SCRIPTS = 200;
+
     private final org.codehaus.groovy.jsr223.GroovyScriptEngineFactory factory = new org.codehaus.groovy.jsr223.GroovyScriptEngineFactory();
 
     private final List<String> scriptTypes = (List<String>) Stream.of(factory.getExtensions(), factory.getMimeTypes())
             .flatMap(List::stream) //
             .collect(Collectors.toUnmodifiableList());
 
+    // parent of the class loaders of all scripts, so the classes they import are only looked up once
+    private final GroovyClassLoader sharedClassLoader = new GroovyClassLoader(getParentClassLoader());
+    private final boolean compileStatic;
+    private final @Nullable Path cacheDirectory;
+    private final String environment;
+
+    @Activate
+    public GroovyScriptEngineFactory(BundleContext bundleContext, Map<String, Object> config) {
+        compileStatic = Boolean.parseBoolean(String.valueOf(config.getOrDefault(CONFIG_COMPILE_STATIC, "false")));
+        boolean cacheCompiledScripts = Boolean
+                .parseBoolean(String.valueOf(config.getOrDefault(CONFIG_CACHE_COMPILED_SCRIPTS, "true")));
+        cacheDirectory = cacheCompiledScripts ? CACHE_DIRECTORY : null;
+        // scripts can use the classes of any bundle, so a compiled script is only reused with the same bundles
+        environment = OpenHAB.getVersion() + Arrays.stream(bundleContext.getBundles())
+                .map(bundle -> bundle.getSymbolicName() + ":" + bundle.getVersion()).sorted()
+                .collect(Collectors.joining(",", "[", "]"));
+        logger.debug("Groovy scripts are compiled {}, compiled scripts are {}",
+                compileStatic ? "statically" : "dynamically", cacheDirectory != null ? "cached" : "not cached");
+    }
+
+    /**
+     * Returns the same parent class loader a {@link GroovyScriptEngineImpl} would use by default.
+     */
+    private static ClassLoader getParentClassLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            try {
+                if (contextClassLoader.loadClass(Script.class.getName()) == Script.class) {
+                    return contextClassLoader;
+                }
+            } catch (ClassNotFoundException e) {
+                // fall through to the class loader of Groovy itself
+            }
+        }
+        return GroovyScriptEngineImpl.class.getClassLoader();
+    }
+
     @Override
     public List<String> getScriptTypes() {
         return scriptTypes;
@@ -46,6 +101,11 @@ public class GroovyScriptEngineFactory extends AbstractScriptEngineFactory {
 
     @Override
     public @Nullable ScriptEngine createScriptEngine(String scriptType) {
-        return scriptTypes.contains(scriptType) ? factory.getScriptEngine() : null;
+        if (!scriptTypes.contains(scriptType)) {
+            return null;
+        }
+        // every script gets its own class loader, so its classes can be unloaded together with the script
+        return new GroovyScriptEngineImpl(new CachingGroovyClassLoader(sharedClassLoader, compileStatic, cacheDirectory,
+                environment, MAX_CACHED_SCRIPTS));
     }
 }
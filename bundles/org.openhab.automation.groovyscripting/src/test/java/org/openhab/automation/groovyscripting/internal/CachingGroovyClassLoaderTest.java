@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.groovyscripting.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.Script;
+
+/**
+ * Tests the {@link CachingGroovyClassLoader}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CachingGroovyClassLoaderTest {
+
+    private static final String ENVIRONMENT = "openHAB 3.1.0";
+
+    @Test
+    public void compiledScriptIsLoadedFromCache(@TempDir Path cacheDirectory) throws Exception {
+        assertEquals(1, run(cacheDirectory, "return 1"));
+        Path entry = single(entries(cacheDirectory));
+        List<String> classNames = Files.readAllLines(entry.resolve("classes.idx"));
+        Path classFile = entry.resolve(classNames.get(0) + ".class");
+
+        // replaces the stored class with the one of another script, so using the cache changes the result
+        Path otherCacheDirectory = Files.createDirectory(cacheDirectory.resolve("other"));
+        run(otherCacheDirectory, "return 2");
+        Path otherEntry = single(entries(otherCacheDirectory));
+        Files.copy(otherEntry.resolve(classNames.get(0) + ".class"), classFile, StandardCopyOption.REPLACE_EXISTING);
+        deleteRecursively(otherCacheDirectory);
+
+        assertEquals(2, run(cacheDirectory, "return 1"));
+    }
+
+    @Test
+    public void corruptEntryIsCompiledAgain(@TempDir Path cacheDirectory) throws Exception {
+        assertEquals(1, run(cacheDirectory, "return 1"));
+        Path entry = single(entries(cacheDirectory));
+        String mainClassName = Files.readAllLines(entry.resolve("classes.idx")).get(0);
+        Files.write(entry.resolve(mainClassName + ".class"), new byte[] { 1, 2, 3 });
+
+        assertEquals(1, run(cacheDirectory, "return 1"));
+        // the entry is stored again and can be used afterwards
+        assertEquals(Set.of(entry), entries(cacheDirectory));
+        assertEquals(1, run(cacheDirectory, "return 1"));
+    }
+
+    @Test
+    public void hashDependsOnScriptEnvironmentAndCompilerSettings(@TempDir Path cacheDirectory) throws Exception {
+        run(cacheDirectory, "return 1");
+        run(cacheDirectory, "return 1");
+        assertEquals(1, entries(cacheDirectory).size());
+
+        run(cacheDirectory, "return 2");
+        assertEquals(2, entries(cacheDirectory).size());
+
+        run(new CachingGroovyClassLoader(getClass().getClassLoader(), false, cacheDirectory, "openHAB 3.2.0", 10),
+                "return 1");
+        assertEquals(3, entries(cacheDirectory).size());
+
+        run(new CachingGroovyClassLoader(getClass().getClassLoader(), true, cacheDirectory, ENVIRONMENT, 10),
+                "return 1");
+        assertEquals(4, entries(cacheDirectory).size());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesArePruned(@TempDir Path cacheDirectory) throws Exception {
+        run(cacheDirectory, "return 1", 2);
+        Path first = single(entries(cacheDirectory));
+        run(cacheDirectory, "return 2", 2);
+        Path second = single(entries(cacheDirectory).stream().filter(entry -> !entry.equals(first))
+                .collect(Collectors.toSet()));
+        Files.setLastModifiedTime(first.resolve("classes.idx"), FileTime.fromMillis(2000));
+        Files.setLastModifiedTime(second.resolve("classes.idx"), FileTime.fromMillis(1000));
+
+        // using the first entry again makes the second one the least recently used
+        run(cacheDirectory, "return 1", 2);
+        assertEquals(Set.of(first, second), entries(cacheDirectory));
+
+        run(cacheDirectory, "return 3", 2);
+        Set<Path> entries = entries(cacheDirectory);
+        assertEquals(2, entries.size());
+        assertTrue(entries.contains(first));
+        assertFalse(entries.contains(second));
+    }
+
+    @Test
+    public void nothingIsStoredWithoutCacheDirectory(@TempDir Path cacheDirectory) throws Exception {
+        CachingGroovyClassLoader loader = new CachingGroovyClassLoader(getClass().getClassLoader(), false, null,
+                ENVIRONMENT, 10);
+        assertEquals(1, run(loader, "return 1"));
+        assertTrue(entries(cacheDirectory).isEmpty());
+    }
+
+    private Object run(Path cacheDirectory, String scriptText) throws Exception {
+        return run(cacheDirectory, scriptText, 10);
+    }
+
+    private Object run(Path cacheDirectory, String scriptText, int maxCachedScripts) throws Exception {
+        return run(new CachingGroovyClassLoader(getClass().getClassLoader(), false, cacheDirectory, ENVIRONMENT,
+                maxCachedScripts), scriptText);
+    }
+
+    private Object run(CachingGroovyClassLoader loader, String scriptText) throws Exception {
+        Class<?> scriptClass = loader.parseClass(new GroovyCodeSource(scriptText, "script", "/groovy/script"), false);
+        assertNotNull(scriptClass);
+        return ((Script) scriptClass.getDeclaredConstructor().newInstance()).run();
+    }
+
+    private static Set<Path> entries(Path cacheDirectory) throws IOException {
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            return entries.filter(Files::isDirectory).collect(Collectors.toSet());
+        }
+    }
+
+    private static Path single(Set<Path> entries) {
+        assertEquals(1, entries.size());
+        return entries.iterator().next();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((path1, path2) -> path2.compareTo(path1)).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
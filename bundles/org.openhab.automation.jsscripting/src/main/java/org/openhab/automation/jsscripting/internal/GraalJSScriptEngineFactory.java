@@ -19,8 +19,11 @@ import java.util.Map;
 
 import javax.script.ScriptEngine;
 
+import org.graalvm.polyglot.Engine;
+import org.openhab.automation.jsscripting.internal.fs.ModuleContentCache;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 
 import com.oracle.truffle.js.scriptengine.GraalJSEngineFactory;
 
@@ -32,6 +35,10 @@ import com.oracle.truffle.js.scriptengine.GraalJSEngineFactory;
 @Component(service = ScriptEngineFactory.class)
 public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
+    // shared by all script engines, so modules used by several scripts are only parsed once
+    private final Engine engine = Engine.create();
+    private final ModuleContentCache moduleContentCache = new ModuleContentCache();
+
     @Override
     public List<String> getScriptTypes() {
         List<String> scriptTypes = new ArrayList<>();
@@ -50,7 +57,13 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     @Override
     public ScriptEngine createScriptEngine(String scriptType) {
-        OpenhabGraalJSScriptEngine engine = new OpenhabGraalJSScriptEngine();
-        return new DebuggingGraalScriptEngine<>(engine);
+        OpenhabGraalJSScriptEngine scriptEngine = new OpenhabGraalJSScriptEngine(engine, moduleContentCache);
+        return new DebuggingGraalScriptEngine<>(scriptEngine);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        moduleContentCache.clear();
+        engine.close(true);
     }
 }
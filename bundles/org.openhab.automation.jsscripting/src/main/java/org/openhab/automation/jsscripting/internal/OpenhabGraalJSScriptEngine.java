@@ -30,8 +30,10 @@ import javax.script.ScriptContext;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.openhab.automation.jsscripting.internal.fs.DelegatingFileSystem;
-import org.openhab.automation.jsscripting.internal.fs.PrefixedSeekableByteChannel;
+import org.openhab.automation.jsscripting.internal.fs.ModuleContentCache;
+import org.openhab.automation.jsscripting.internal.fs.ReadOnlyByteArrayChannel;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.ScriptExtensionAccessor;
@@ -50,6 +52,7 @@ public class OpenhabGraalJSScriptEngine extends InvocationInterceptingScriptEngi
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenhabGraalJSScriptEngine.class);
 
     private static final String REQUIRE_WRAPPER_NAME = "__wraprequire__";
+    private static final byte[] REQUIRE_WRAPPER_PREFIX = ("require=" + REQUIRE_WRAPPER_NAME + "(require);").getBytes();
     private static final String MODULE_DIR = String.join(File.separator, OpenHAB.getConfigFolder(), "automation", "lib",
             "javascript", "personal");
 
@@ -62,10 +65,13 @@ public class OpenhabGraalJSScriptEngine extends InvocationInterceptingScriptEngi
     /**
      * Creates an implementation of ScriptEngine (& Invocable), wrapping the contained engine, that tracks the script
      * lifecycle and provides hooks for scripts to do so too.
+     *
+     * @param engine the polyglot engine shared by all scripts, so that parsed code can be reused between them
+     * @param moduleContentCache the cache for the content of module files shared by all scripts
      */
-    public OpenhabGraalJSScriptEngine() {
+    public OpenhabGraalJSScriptEngine(Engine engine, ModuleContentCache moduleContentCache) {
         super(null); // delegate depends on fields not yet initialised, so we cannot set it immediately
-        delegate = GraalJSScriptEngine.create(null,
+        delegate = GraalJSScriptEngine.create(engine,
                 Context.newBuilder("js").allowExperimentalOptions(true).allowAllAccess(true)
                         .option("js.commonjs-require-cwd", MODULE_DIR).option("js.nashorn-compat", "true") // to ease
                                                                                                            // migration
@@ -79,9 +85,8 @@ public class OpenhabGraalJSScriptEngine extends InvocationInterceptingScriptEngi
                                 }
 
                                 if (path.toString().endsWith(".js")) {
-                                    return new PrefixedSeekableByteChannel(
-                                            ("require=" + REQUIRE_WRAPPER_NAME + "(require);").getBytes(),
-                                            super.newByteChannel(path, options, attrs));
+                                    return new ReadOnlyByteArrayChannel(
+                                            moduleContentCache.getContent(path, REQUIRE_WRAPPER_PREFIX));
                                 } else {
                                     return super.newByteChannel(path, options, attrs);
                                 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.fs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for the contents of module files, shared by all script engines. Every engine then reads the exact same
+ * source for a module, which allows the shared polyglot engine to reuse the code it already parsed for it. Entries
+ * are refreshed when the file is modified, and entries of deleted or renamed files are dropped whenever a file has
+ * to be read.
+ *
+ * @author agent - Initial contribution
+ */
+public class ModuleContentCache {
+
+    private final Map<Path, CachedContent> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the content of a file, preceded by the given prefix.
+     *
+     * @param path the file to read
+     * @param prefix bytes to put in front of the file content, must be the same for every call
+     * @return the prefixed content, which must not be modified
+     * @throws IOException if the file can't be read
+     */
+    public byte[] getContent(Path path, byte[] prefix) throws IOException {
+        Path key = path.toAbsolutePath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            cache.remove(key);
+            throw e;
+        }
+        CachedContent cached = cache.get(key);
+        if (cached != null && cached.lastModified.equals(attributes.lastModifiedTime())
+                && cached.size == attributes.size()) {
+            return cached.content;
+        }
+
+        // a new or modified file is a good moment to forget about the ones that are gone
+        cache.keySet().removeIf(cachedPath -> !Files.exists(cachedPath));
+
+        byte[] fileContent = Files.readAllBytes(key);
+        byte[] content = new byte[prefix.length + fileContent.length];
+        System.arraycopy(prefix, 0, content, 0, prefix.length);
+        System.arraycopy(fileContent, 0, content, prefix.length, fileContent.length);
+        cache.put(key, new CachedContent(attributes.lastModifiedTime(), attributes.size(), content));
+        return content;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static class CachedContent {
+        private final FileTime lastModified;
+        private final long size;
+        private final byte[] content;
+
+        private CachedContent(FileTime lastModified, long size, byte[] content) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.content = content;
+        }
+    }
+}
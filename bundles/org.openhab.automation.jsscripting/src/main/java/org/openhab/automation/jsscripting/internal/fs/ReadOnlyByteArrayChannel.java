@@ -10,43 +10,35 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-
 package org.openhab.automation.jsscripting.internal.fs;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
-import java.util.Arrays;
 
 /**
- * Wrapper for a {@link SeekableByteChannel} allowing prefixing the stream with a fixed array of bytes
+ * Read only {@link SeekableByteChannel} over a byte array, used to serve cached file contents
  *
  * @author Jonathan Gilbert - Initial contribution
  */
-public class PrefixedSeekableByteChannel implements SeekableByteChannel {
+public class ReadOnlyByteArrayChannel implements SeekableByteChannel {
 
-    private byte[] prefix;
-    private SeekableByteChannel source;
-    private long position;
+    private final byte[] content;
+    private int position;
+    private boolean open = true;
 
-    public PrefixedSeekableByteChannel(byte[] prefix, SeekableByteChannel source) {
-        this.prefix = prefix;
-        this.source = source;
+    public ReadOnlyByteArrayChannel(byte[] content) {
+        this.content = content;
     }
 
     @Override
     public int read(ByteBuffer dst) throws IOException {
-        int read = 0;
-
-        if (position < prefix.length) {
-            dst.put(Arrays.copyOfRange(prefix, (int) position, prefix.length));
-            read += prefix.length - position;
+        if (position >= content.length) {
+            return -1;
         }
-
-        read += source.read(dst);
-
+        int read = Math.min(dst.remaining(), content.length - position);
+        dst.put(content, position, read);
         position += read;
-
         return read;
     }
 
@@ -62,18 +54,13 @@ public class PrefixedSeekableByteChannel implements SeekableByteChannel {
 
     @Override
     public SeekableByteChannel position(long newPosition) throws IOException {
-        this.position = newPosition;
-
-        if (newPosition > prefix.length) {
-            source.position(newPosition - prefix.length);
-        }
-
+        this.position = (int) Math.min(newPosition, content.length);
         return this;
     }
 
     @Override
     public long size() throws IOException {
-        return source.size() + prefix.length;
+        return content.length;
     }
 
     @Override
@@ -83,11 +70,11 @@ public class PrefixedSeekableByteChannel implements SeekableByteChannel {
 
     @Override
     public boolean isOpen() {
-        return source.isOpen();
+        return open;
     }
 
     @Override
     public void close() throws IOException {
-        source.close();
+        open = false;
     }
 }
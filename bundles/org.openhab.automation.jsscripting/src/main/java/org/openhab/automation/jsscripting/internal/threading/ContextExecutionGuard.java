@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serializes the executions of all rules which use the same GraalJS Context, as a Context must not be entered by more
+ * than one thread at a time. Executions are run in the order they were triggered, and once too many of them are
+ * waiting further ones are dropped, instead of letting threads pile up behind a slow rule. The time spent waiting and
+ * executing is recorded.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ContextExecutionGuard {
+
+    static final int DEFAULT_MAX_WAITING = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(ContextExecutionGuard.class);
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final int maxWaiting;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waitingNanos = new LongAdder();
+    private final LongAdder executingNanos = new LongAdder();
+
+    ContextExecutionGuard(int maxWaiting) {
+        this.maxWaiting = maxWaiting;
+    }
+
+    /**
+     * Runs the execution once no other execution uses the context. Executions from a thread that already holds the
+     * context, e.g. a rule triggering another one synchronously, run immediately.
+     *
+     * @param ruleUID the rule being executed, for logging
+     * @param execution the execution
+     * @return the result of the execution, or null if it was dropped
+     */
+    @Nullable
+    <T> T execute(String ruleUID, Supplier<T> execution) {
+        boolean reentrant = lock.isHeldByCurrentThread();
+        if (!reentrant && waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            dropped.increment();
+            logger.warn("Dropping execution of rule '{}', {} executions of rules of the same script are waiting",
+                    ruleUID, maxWaiting);
+            return null;
+        }
+
+        long start = System.nanoTime();
+        lock.lock();
+        long started = System.nanoTime();
+        if (!reentrant) {
+            waiting.decrementAndGet();
+        }
+        try {
+            return execution.get();
+        } finally {
+            lock.unlock();
+            long end = System.nanoTime();
+            executions.increment();
+            waitingNanos.add(started - start);
+            executingNanos.add(end - started);
+        }
+    }
+
+    long getExecutions() {
+        return executions.sum();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    int getWaiting() {
+        return waiting.get();
+    }
+
+    long getWaitingTime(TimeUnit unit) {
+        return unit.convert(waitingNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    long getExecutingTime(TimeUnit unit) {
+        return unit.convert(executingNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d executions (%d dropped), %d ms waiting, %d ms executing", getExecutions(),
+                getDropped(), getWaitingTime(TimeUnit.MILLISECONDS), getExecutingTime(TimeUnit.MILLISECONDS));
+    }
+}
@@ -38,26 +38,24 @@ import org.openhab.core.config.core.Configuration;
 @NonNullByDefault
 class ThreadsafeSimpleRuleDelegate implements Rule, SimpleRuleActionHandler {
 
-    private final Object lock;
+    private final ContextExecutionGuard guard;
     private final SimpleRule delegate;
 
     /**
-     * Constructor requires a lock object and delegate to forward invocations to.
+     * Constructor requires a guard and delegate to forward invocations to.
      *
-     * @param lock rule executions will synchronize on this object
+     * @param guard rule executions will be serialized by this guard
      * @param delegate the delegate to forward invocations to
      */
-    ThreadsafeSimpleRuleDelegate(Object lock, SimpleRule delegate) {
-        this.lock = lock;
+    ThreadsafeSimpleRuleDelegate(ContextExecutionGuard guard, SimpleRule delegate) {
+        this.guard = guard;
         this.delegate = delegate;
     }
 
     @Override
     @NonNullByDefault({})
     public Object execute(Action module, Map<String, ?> inputs) {
-        synchronized (lock) {
-            return delegate.execute(module, inputs);
-        }
+        return guard.execute(delegate.getUID(), () -> delegate.execute(module, inputs));
     }
 
     @Override
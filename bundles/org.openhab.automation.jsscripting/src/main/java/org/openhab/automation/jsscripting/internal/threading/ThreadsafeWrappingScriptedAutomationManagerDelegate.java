@@ -24,11 +24,14 @@ import org.openhab.core.automation.module.script.rulesupport.shared.simple.Simpl
 import org.openhab.core.automation.type.ActionType;
 import org.openhab.core.automation.type.ConditionType;
 import org.openhab.core.automation.type.TriggerType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A replacement for {@link ScriptedAutomationManager} which wraps all rule registrations in a
  * {@link ThreadsafeSimpleRuleDelegate}. This means that all rules registered via this class with be run in serial per
- * instance of this class that they are registered with.
+ * instance of this class that they are registered with, as they share the GraalJS Context of the script. Executions
+ * are run in the order they are triggered, and dropped once too many are waiting.
  *
  * @author Jonathan Gilbert - Initial contribution
  */
@@ -36,7 +39,9 @@ import org.openhab.core.automation.type.TriggerType;
 public class ThreadsafeWrappingScriptedAutomationManagerDelegate {
 
     private ScriptedAutomationManager delegate;
-    private Object lock = new Object();
+    private final Logger logger = LoggerFactory.getLogger(ThreadsafeWrappingScriptedAutomationManagerDelegate.class);
+
+    private final ContextExecutionGuard guard = new ContextExecutionGuard(ContextExecutionGuard.DEFAULT_MAX_WAITING);
 
     public ThreadsafeWrappingScriptedAutomationManagerDelegate(ScriptedAutomationManager delegate) {
         this.delegate = delegate;
@@ -55,13 +60,14 @@ public class ThreadsafeWrappingScriptedAutomationManagerDelegate {
     }
 
     public void removeAll() {
+        logger.debug("Rules of the script had {}", guard);
         delegate.removeAll();
     }
 
     public Rule addRule(Rule element) {
         // wrap in a threadsafe version, safe per context
         if (element instanceof SimpleRule) {
-            element = new ThreadsafeSimpleRuleDelegate(lock, (SimpleRule) element);
+            element = new ThreadsafeSimpleRuleDelegate(guard, (SimpleRule) element);
         }
 
         return delegate.addRule(element);
@@ -17,16 +17,23 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.AbstractScriptEngineFactory;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -37,10 +44,13 @@ import org.osgi.service.component.annotations.Deactivate;
  * @author Scott Rushworth - Initial contribution
  * @author Wouter Born - Initial contribution
  */
-@Component(service = ScriptEngineFactory.class)
+@Component(service = ScriptEngineFactory.class, configurationPid = "org.openhab.jythonscripting")
 @NonNullByDefault
 public class JythonScriptEngineFactory extends AbstractScriptEngineFactory {
 
+    private static final String CONFIG_CACHE_COMPILED_MODULES = "cacheCompiledModules";
+    private static final String CONFIG_PRELOAD_MODULES = "preloadModules";
+
     private static final String PYTHON_CACHEDIR = "python.cachedir";
     private static final String PYTHON_HOME = "python.home";
     private static final String PYTHON_PATH = "python.path";
@@ -51,8 +61,23 @@ public class JythonScriptEngineFactory extends AbstractScriptEngineFactory {
     private static final String SCRIPT_TYPE = "py";
     private static final javax.script.ScriptEngineManager ENGINE_MANAGER = new javax.script.ScriptEngineManager();
 
+    private static final String THREAD_POOL_NAME = "jythonscripting";
+
+    // removes a failed preload module and its submodules again, so later imports don't find them half initialized
+    private static final String PRELOAD_SCRIPT = String.join("\n", //
+            "import sys", //
+            "try:", //
+            "    __import__(preloadModule)", //
+            "except:", //
+            "    for name in list(sys.modules):", //
+            "        if name == preloadModule or name.startswith(preloadModule + '.'):", //
+            "            del sys.modules[name]", //
+            "    raise");
+
+    private final Future<?> initializeJob;
+
     @Activate
-    public JythonScriptEngineFactory() {
+    public JythonScriptEngineFactory(Map<String, Object> config) {
         logger.debug("Loading JythonScriptEngineFactory");
 
         String pythonHome = JythonScriptEngineFactory.class.getProtectionDomain().getCodeSource().getLocation()
@@ -73,6 +98,56 @@ public class JythonScriptEngineFactory extends AbstractScriptEngineFactory {
                 .toString());
 
         logPythonPaths();
+
+        boolean cacheCompiledModules = Boolean
+                .parseBoolean(String.valueOf(config.getOrDefault(CONFIG_CACHE_COMPILED_MODULES, "true")));
+        Set<String> preloadModules = Arrays
+                .stream(String.valueOf(config.getOrDefault(CONFIG_PRELOAD_MODULES, "")).split(","))
+                .map(String::trim).filter(module -> !module.isEmpty()).collect(Collectors.toSet());
+        // compiling the lib directory can take a while, so it doesn't hold up the activation,
+        // scripts wait for it instead
+        initializeJob = ThreadPoolManager.getPool(THREAD_POOL_NAME)
+                .submit(() -> initializeSystemState(cacheCompiledModules, preloadModules));
+    }
+
+    /**
+     * All Jython script engines share the default Python system state and thereby the imported modules. The state is
+     * prepared here once, so scripts loaded afterwards find their library modules compiled and imported already.
+     *
+     * The modules are imported by a plain engine, without the presets the script engine manager adds to the scope of
+     * scripts (like scriptExtension, ir or events). Only modules that don't use them can be preloaded, a module that
+     * fails to import is removed from the shared modules again.
+     */
+    private void initializeSystemState(boolean cacheCompiledModules, Set<String> preloadModules) {
+        ScriptEngine scriptEngine = getScriptEngine(SCRIPT_TYPE);
+        if (scriptEngine == null) {
+            logger.warn("Unable to create a Jython script engine for initializing the Python system state");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            scriptEngine.eval("import sys\nsys.dont_write_bytecode = " + (cacheCompiledModules ? "False" : "True"));
+            if (cacheCompiledModules) {
+                // compiles the modules in the lib directory to $py.class files, modules already compiled are skipped
+                scriptEngine.put("libraryPath", DEFAULT_PYTHON_PATH);
+                scriptEngine.eval("import compileall\ncompileall.compile_dir(libraryPath, quiet=1)");
+            }
+        } catch (ScriptException e) {
+            logger.warn("Failed to compile the Python modules in '{}': {}", DEFAULT_PYTHON_PATH, e.getMessage());
+        }
+
+        for (String module : preloadModules) {
+            try {
+                scriptEngine.put("preloadModule", module);
+                scriptEngine.eval(PRELOAD_SCRIPT);
+            } catch (ScriptException e) {
+                logger.warn("Failed to preload Python module '{}': {}", module, e.getMessage());
+            }
+        }
+
+        logger.debug("Initialized Python system state in {} ms (cacheCompiledModules: {}, preloadModules: {})",
+                System.currentTimeMillis() - startTime, cacheCompiledModules, preloadModules);
     }
 
     private void logPythonPaths() {
@@ -99,6 +174,27 @@ public class JythonScriptEngineFactory extends AbstractScriptEngineFactory {
 
     @Override
     public @Nullable ScriptEngine createScriptEngine(String scriptType) {
+        awaitInitialization();
+        return getScriptEngine(scriptType);
+    }
+
+    /**
+     * Waits until the Python system state is initialized, so scripts don't change the shared modules while they are
+     * compiled and preloaded.
+     */
+    private void awaitInitialization() {
+        try {
+            initializeJob.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CancellationException e) {
+            // deactivated before the initialization started
+        } catch (ExecutionException e) {
+            logger.warn("Failed to initialize the Python system state: {}", e.getMessage());
+        }
+    }
+
+    private @Nullable ScriptEngine getScriptEngine(String scriptType) {
         ScriptEngine scriptEngine = ENGINE_MANAGER.getEngineByExtension(scriptType);
         if (scriptEngine == null) {
             scriptEngine = ENGINE_MANAGER.getEngineByMimeType(scriptType);
@@ -113,6 +209,8 @@ public class JythonScriptEngineFactory extends AbstractScriptEngineFactory {
     public void removePythonPath() {
         logger.debug("Unloading JythonScriptEngineFactory");
 
+        initializeJob.cancel(false);
+
         String existingPythonPath = System.getProperty(PYTHON_PATH);
         if (existingPythonPath != null && existingPythonPath.contains(DEFAULT_PYTHON_PATH)) {
             Set<String> newPythonPathList = new TreeSet<>(Arrays.asList(existingPythonPath.split(File.pathSeparator)));
@@ -12,12 +12,16 @@
  */
 package org.openhab.automation.pidcontroller.internal.factory;
 
+import static org.openhab.automation.pidcontroller.internal.PIDControllerConstants.AUTOMATION_NAME;
+
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.automation.pidcontroller.internal.handler.PIDControllerActionHandler;
+import org.openhab.automation.pidcontroller.internal.handler.PIDControllerEventDispatcher;
 import org.openhab.automation.pidcontroller.internal.handler.PIDControllerTriggerHandler;
 import org.openhab.core.automation.Action;
 import org.openhab.core.automation.Module;
@@ -25,9 +29,9 @@ import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseModuleHandlerFactory;
 import org.openhab.core.automation.handler.ModuleHandler;
 import org.openhab.core.automation.handler.ModuleHandlerFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.ItemRegistry;
-import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -41,16 +45,18 @@ import org.osgi.service.component.annotations.Reference;
 public class PIDControllerModuleHandlerFactory extends BaseModuleHandlerFactory {
     private static final Collection<String> TYPES = Set.of(PIDControllerTriggerHandler.MODULE_TYPE_ID,
             PIDControllerActionHandler.MODULE_TYPE_ID);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool("automation-" + AUTOMATION_NAME);
     private ItemRegistry itemRegistry;
     private EventPublisher eventPublisher;
-    private BundleContext bundleContext;
+    private PIDControllerEventDispatcher eventDispatcher;
 
     @Activate
     public PIDControllerModuleHandlerFactory(@Reference ItemRegistry itemRegistry,
-            @Reference EventPublisher eventPublisher, BundleContext bundleContext) {
+            @Reference EventPublisher eventPublisher, @Reference PIDControllerEventDispatcher eventDispatcher) {
         this.itemRegistry = itemRegistry;
         this.eventPublisher = eventPublisher;
-        this.bundleContext = bundleContext;
+        this.eventDispatcher = eventDispatcher;
     }
 
     @Override
@@ -62,7 +68,8 @@ public class PIDControllerModuleHandlerFactory extends BaseModuleHandlerFactory
     protected @Nullable ModuleHandler internalCreate(Module module, String ruleUID) {
         switch (module.getTypeUID()) {
             case PIDControllerTriggerHandler.MODULE_TYPE_ID:
-                return new PIDControllerTriggerHandler((Trigger) module, itemRegistry, eventPublisher, bundleContext);
+                return new PIDControllerTriggerHandler((Trigger) module, itemRegistry, eventPublisher, eventDispatcher,
+                        scheduler);
             case PIDControllerActionHandler.MODULE_TYPE_ID:
                 return new PIDControllerActionHandler((Action) module, itemRegistry, eventPublisher);
         }
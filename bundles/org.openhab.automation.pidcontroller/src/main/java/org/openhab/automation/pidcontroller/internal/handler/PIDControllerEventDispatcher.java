@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.pidcontroller.internal.handler;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * The {@link PIDControllerEventDispatcher} is the single {@link EventSubscriber} of all PID controller triggers. It
+ * forwards item state changes only to the triggers that registered for the item, so the triggers don't have to look at
+ * every event on the bus themselves.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = { EventSubscriber.class, PIDControllerEventDispatcher.class })
+@NonNullByDefault
+public class PIDControllerEventDispatcher implements EventSubscriber {
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ItemStateChangedEvent.TYPE);
+
+    private final Map<String, Set<Consumer<ItemStateChangedEvent>>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a listener for the state changes of the given item.
+     *
+     * @param itemName the name of the item
+     * @param listener the listener to call on each state change of the item
+     */
+    public void addListener(String itemName, Consumer<ItemStateChangedEvent> listener) {
+        listeners.compute(itemName, (name, itemListeners) -> {
+            Set<Consumer<ItemStateChangedEvent>> result = itemListeners == null ? new CopyOnWriteArraySet<>()
+                    : itemListeners;
+            result.add(listener);
+            return result;
+        });
+    }
+
+    /**
+     * Removes the given listener for all items it was registered for.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Consumer<ItemStateChangedEvent> listener) {
+        for (String itemName : listeners.keySet()) {
+            listeners.computeIfPresent(itemName, (name, itemListeners) -> {
+                itemListeners.remove(listener);
+                return itemListeners.isEmpty() ? null : itemListeners;
+            });
+        }
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemStateChangedEvent) {
+            ItemStateChangedEvent changedEvent = (ItemStateChangedEvent) event;
+            Set<Consumer<ItemStateChangedEvent>> itemListeners = listeners.get(changedEvent.getItemName());
+            if (itemListeners != null) {
+                itemListeners.forEach(listener -> listener.accept(changedEvent));
+            }
+        }
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public @Nullable EventFilter getEventFilter() {
+        return null;
+    }
+}
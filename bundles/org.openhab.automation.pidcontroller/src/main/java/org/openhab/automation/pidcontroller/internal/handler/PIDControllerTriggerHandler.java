@@ -19,11 +19,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,24 +31,17 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
-import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.Configuration;
-import org.openhab.core.events.Event;
-import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventPublisher;
-import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.ItemEventFactory;
 import org.openhab.core.items.events.ItemStateChangedEvent;
-import org.openhab.core.items.events.ItemStateEvent;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,27 +51,31 @@ import org.slf4j.LoggerFactory;
  * @author Fabian Wolter - Add PID debug output values
  */
 @NonNullByDefault
-public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
+public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler {
     public static final String MODULE_TYPE_ID = AUTOMATION_NAME + ".trigger";
-    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ItemStateEvent.TYPE, ItemStateChangedEvent.TYPE);
     private final Logger logger = LoggerFactory.getLogger(PIDControllerTriggerHandler.class);
-    private final ScheduledExecutorService scheduler = Executors
-            .newSingleThreadScheduledExecutor(new NamedThreadFactory("automation-" + AUTOMATION_NAME, true));
-    private final ServiceRegistration<?> eventSubscriberRegistration;
+    private final Consumer<ItemStateChangedEvent> eventListener = this::receive;
+    private final PIDControllerEventDispatcher eventDispatcher;
     private final PIDController controller;
     private final int loopTimeMs;
     private @Nullable ScheduledFuture<?> controllerjob;
     private long previousTimeMs = System.currentTimeMillis();
     private Item inputItem;
     private Item setpointItem;
-    private Optional<String> commandTopic;
-    private EventFilter eventFilter;
+    private Optional<String> commandItemName;
     private EventPublisher eventPublisher;
 
+    // values of the last calculation, used to skip loops in which the output would not change
+    private double previousInput = Double.NaN;
+    private double previousSetpoint = Double.NaN;
+    private double previousOutput = Double.NaN;
+    private boolean outputSettled;
+
     public PIDControllerTriggerHandler(Trigger module, ItemRegistry itemRegistry, EventPublisher eventPublisher,
-            BundleContext bundleContext) {
+            PIDControllerEventDispatcher eventDispatcher, ScheduledExecutorService scheduler) {
         super(module);
         this.eventPublisher = eventPublisher;
+        this.eventDispatcher = eventDispatcher;
 
         Configuration config = module.getConfiguration();
 
@@ -98,12 +94,7 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
             throw new IllegalArgumentException("Configured setpoint item not found: " + setpointItemName, e);
         }
 
-        String commandItemName = (String) config.get(CONFIG_COMMAND_ITEM);
-        if (commandItemName != null) {
-            commandTopic = Optional.of("openhab/items/" + commandItemName + "/statechanged");
-        } else {
-            commandTopic = Optional.empty();
-        }
+        commandItemName = Optional.ofNullable((String) config.get(CONFIG_COMMAND_ITEM));
 
         double kpAdjuster = getDoubleFromConfig(config, CONFIG_KP_GAIN);
         double kiAdjuster = getDoubleFromConfig(config, CONFIG_KI_GAIN);
@@ -115,16 +106,9 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
 
         controller = new PIDController(kpAdjuster, kiAdjuster, kdAdjuster, kdTimeConstant);
 
-        eventFilter = event -> {
-            String topic = event.getTopic();
-
-            return topic.equals("openhab/items/" + inputItemName + "/state")
-                    || topic.equals("openhab/items/" + inputItemName + "/statechanged")
-                    || topic.equals("openhab/items/" + setpointItemName + "/statechanged")
-                    || commandTopic.map(t -> topic.equals(t)).orElse(false);
-        };
-
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        eventDispatcher.addListener(inputItemName, eventListener);
+        eventDispatcher.addListener(setpointItemName, eventListener);
+        commandItemName.ifPresent(name -> eventDispatcher.addListener(name, eventListener));
 
         eventPublisher.post(ItemEventFactory.createCommandEvent(inputItemName, RefreshType.REFRESH));
 
@@ -142,7 +126,7 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
         return ((BigDecimal) Objects.requireNonNull(config.get(key), key + " is not set")).doubleValue();
     }
 
-    private void calculate() {
+    private synchronized void calculate() {
         double input;
         double setpoint;
 
@@ -162,9 +146,20 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
 
         long now = System.currentTimeMillis();
 
+        if (outputSettled && input == previousInput && setpoint == previousSetpoint) {
+            // another calculation would yield the same output again, so there's nothing to do
+            previousTimeMs = now;
+            return;
+        }
+
         PIDOutputDTO output = controller.calculate(input, setpoint, now - previousTimeMs, loopTimeMs);
         previousTimeMs = now;
 
+        outputSettled = input == previousInput && setpoint == previousSetpoint && output.getOutput() == previousOutput;
+        previousInput = input;
+        previousSetpoint = setpoint;
+        previousOutput = output.getOutput();
+
         Map<String, BigDecimal> outputs = new HashMap<>();
 
         putBigDecimal(outputs, OUTPUT, output.getOutput());
@@ -205,45 +200,34 @@ public class PIDControllerTriggerHandler extends BaseTriggerModuleHandler implem
                 "Item type is not a number: " + setpointState.getClass().getSimpleName() + ": " + setpointState);
     }
 
-    @Override
-    public void receive(Event event) {
-        if (event instanceof ItemStateChangedEvent) {
-            if (commandTopic.isPresent() && event.getTopic().equals(commandTopic.get())) {
-                ItemStateChangedEvent changedEvent = (ItemStateChangedEvent) event;
-                if ("RESET".equals(changedEvent.getItemState().toString())) {
-                    controller.setIntegralResult(0);
-                    controller.setDerivativeResult(0);
-                    eventPublisher.post(ItemEventFactory.createStateEvent(changedEvent.getItemName(), UnDefType.NULL));
-                } else if (changedEvent.getItemState() != UnDefType.NULL) {
-                    logger.warn("Unknown command: {}", changedEvent.getItemState());
-                }
-            } else {
-                calculate();
+    private void receive(ItemStateChangedEvent event) {
+        if (commandItemName.isPresent() && event.getItemName().equals(commandItemName.get())) {
+            if ("RESET".equals(event.getItemState().toString())) {
+                reset();
+                eventPublisher.post(ItemEventFactory.createStateEvent(event.getItemName(), UnDefType.NULL));
+            } else if (event.getItemState() != UnDefType.NULL) {
+                logger.warn("Unknown command: {}", event.getItemState());
             }
+        } else {
+            calculate();
         }
     }
 
-    @Override
-    public Set<String> getSubscribedEventTypes() {
-        return SUBSCRIBED_EVENT_TYPES;
-    }
-
-    @Override
-    public @Nullable EventFilter getEventFilter() {
-        return eventFilter;
+    private synchronized void reset() {
+        controller.setIntegralResult(0);
+        controller.setDerivativeResult(0);
+        outputSettled = false;
     }
 
     @Override
     public void dispose() {
-        eventSubscriberRegistration.unregister();
+        eventDispatcher.removeListener(eventListener);
 
         ScheduledFuture<?> localControllerjob = controllerjob;
         if (localControllerjob != null) {
-            localControllerjob.cancel(true);
+            localControllerjob.cancel(false);
         }
 
-        scheduler.shutdown();
-
         super.dispose();
     }
 }
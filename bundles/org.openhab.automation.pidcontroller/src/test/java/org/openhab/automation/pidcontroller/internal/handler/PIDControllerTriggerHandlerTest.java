@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.pidcontroller.internal.handler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.automation.pidcontroller.internal.PIDControllerConstants.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Tests that the {@link PIDControllerTriggerHandler} skips loops in which the output would not change.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+class PIDControllerTriggerHandlerTest {
+    private static final String INPUT = "input";
+    private static final String SETPOINT = "setpoint";
+    private static final String COMMAND = "command";
+
+    private @Mock @NonNullByDefault({}) Trigger trigger;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistry;
+    private @Mock @NonNullByDefault({}) EventPublisher eventPublisher;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> controllerJob;
+    private @Mock @NonNullByDefault({}) TriggerHandlerCallback callback;
+
+    private final PIDControllerEventDispatcher eventDispatcher = new PIDControllerEventDispatcher();
+    private final NumberItem inputItem = new NumberItem(INPUT);
+    private final NumberItem setpointItem = new NumberItem(SETPOINT);
+    private @NonNullByDefault({}) PIDControllerTriggerHandler handler;
+    private @NonNullByDefault({}) Runnable loop;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        inputItem.setState(new DecimalType(18));
+        setpointItem.setState(new DecimalType(20));
+        when(itemRegistry.getItem(INPUT)).thenReturn(inputItem);
+        when(itemRegistry.getItem(SETPOINT)).thenReturn(setpointItem);
+        // only the proportional part, so the output only depends on input and setpoint
+        when(trigger.getConfiguration()).thenReturn(new Configuration(Map.of(CONFIG_INPUT_ITEM, INPUT,
+                CONFIG_SETPOINT_ITEM, SETPOINT, CONFIG_COMMAND_ITEM, COMMAND, CONFIG_LOOP_TIME, new BigDecimal(1000),
+                CONFIG_KP_GAIN, BigDecimal.ONE, CONFIG_KI_GAIN, BigDecimal.ZERO, CONFIG_KD_GAIN, BigDecimal.ZERO,
+                CONFIG_KD_TIMECONSTANT, BigDecimal.ZERO)));
+        doReturn(controllerJob).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+
+        handler = new PIDControllerTriggerHandler(trigger, itemRegistry, eventPublisher, eventDispatcher, scheduler);
+        handler.setCallback(callback);
+
+        ArgumentCaptor<Runnable> loopCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).scheduleWithFixedDelay(loopCaptor.capture(), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        loop = loopCaptor.getValue();
+    }
+
+    @Test
+    void loopsAreSkippedOnceTheOutputSettled() {
+        loop.run();
+        // the first loop has nothing to compare with, the second one finds the output unchanged
+        loop.run();
+        verify(callback, times(2)).triggered(eq(trigger), anyMap());
+
+        loop.run();
+        loop.run();
+        verify(callback, times(2)).triggered(eq(trigger), anyMap());
+    }
+
+    @Test
+    void inputChangeResumesLoops() {
+        loop.run();
+        loop.run();
+        loop.run();
+        verify(callback, times(2)).triggered(eq(trigger), anyMap());
+
+        inputItem.setState(new DecimalType(19));
+        eventDispatcher.receive(ItemEventFactory.createStateChangedEvent(INPUT, new DecimalType(19),
+                new DecimalType(18)));
+        verify(callback, times(3)).triggered(eq(trigger), anyMap());
+
+        // settles again with the new input
+        loop.run();
+        loop.run();
+        verify(callback, times(4)).triggered(eq(trigger), anyMap());
+    }
+
+    @Test
+    void setpointChangeResumesLoops() {
+        loop.run();
+        loop.run();
+        loop.run();
+
+        setpointItem.setState(new DecimalType(21));
+        loop.run();
+        verify(callback, times(3)).triggered(eq(trigger), anyMap());
+    }
+
+    @Test
+    void resetResumesLoops() {
+        loop.run();
+        loop.run();
+        loop.run();
+        verify(callback, times(2)).triggered(eq(trigger), anyMap());
+
+        eventDispatcher.receive(ItemEventFactory.createStateChangedEvent(COMMAND, new StringType("RESET"),
+                UnDefType.NULL));
+        verify(eventPublisher).post(argThat(
+                event -> event instanceof ItemStateEvent && COMMAND.equals(((ItemStateEvent) event).getItemName())));
+        verify(callback, times(2)).triggered(eq(trigger), anyMap());
+
+        loop.run();
+        verify(callback, times(3)).triggered(eq(trigger), anyMap());
+    }
+
+    @Test
+    void disposeLetsARunningLoopFinish() {
+        handler.dispose();
+        verify(controllerJob).cancel(false);
+
+        // events are no longer forwarded to the disposed handler
+        eventDispatcher.receive(ItemEventFactory.createStateChangedEvent(INPUT, new DecimalType(19),
+                new DecimalType(18)));
+        verify(callback, never()).triggered(any(), anyMap());
+    }
+}
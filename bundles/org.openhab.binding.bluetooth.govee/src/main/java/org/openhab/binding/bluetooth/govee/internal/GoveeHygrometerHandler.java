@@ -295,6 +295,9 @@ public class GoveeHygrometerHandler extends ConnectedBluetoothHandler {
     @Override
     public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
         super.onScanRecordReceived(scanNotification);
+        if (!isNewAdvertisement(scanNotification)) {
+            return;
+        }
         byte[] scanData = scanNotification.getData();
         int dataPacketSize = scanPacketSize();
         int recordIndex = indexOfTemHumRecord(scanData);
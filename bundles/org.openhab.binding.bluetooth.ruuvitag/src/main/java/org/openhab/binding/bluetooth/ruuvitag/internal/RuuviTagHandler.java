@@ -99,6 +99,9 @@ public class RuuviTagHandler extends BeaconBluetoothHandler {
         synchronized (receivedStatus) {
             receivedStatus.set(true);
             super.onScanRecordReceived(scanNotification);
+            if (!isNewAdvertisement(scanNotification)) {
+                return;
+            }
             final byte[] manufacturerData = scanNotification.getManufacturerData();
             if (manufacturerData != null && manufacturerData.length > 0) {
                 final RuuviMeasurement ruuvitagData = parser.parse(manufacturerData);
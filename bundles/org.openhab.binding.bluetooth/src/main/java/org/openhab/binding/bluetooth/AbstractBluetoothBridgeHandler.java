@@ -12,14 +12,15 @@
  */
 package org.openhab.binding.bluetooth;
 
-import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.Map;
-import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -54,6 +55,16 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     // This contains the devices from the most recent scan
     private final Map<BluetoothAddress, BD> devices = new ConcurrentHashMap<>();
 
+    // Timer queue of the known devices by the time they are checked for inactivity next. Each device is in here once,
+    // scan callbacks only update the last seen time of the device and the deadline is moved on when it is reached.
+    private final PriorityQueue<Expiry<BD>> expiryQueue = new PriorityQueue<>(
+            Comparator.comparingLong(expiry -> expiry.deadline));
+
+    // Number of advertisements received since the last inactive device cleanup
+    private final LongAdder advertisementCount = new LongAdder();
+    private volatile long advertisementCountStart = System.nanoTime();
+    private volatile double advertisementRate = 0;
+
     // Actual discovery status.
     protected volatile boolean activeScanEnabled = false;
 
@@ -102,10 +113,11 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
+        }
+        synchronized (expiryQueue) {
+            expiryQueue.clear();
         }
     }
 
@@ -114,43 +126,80 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
-        // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
+        long now = System.currentTimeMillis();
+        long threshold = TimeUnit.SECONDS.toMillis(config.inactiveDeviceCleanupThreshold);
+        int removed = 0;
+        // only the devices whose deadline has passed are looked at, all others can't be inactive yet
+        while (true) {
+            Expiry<BD> expiry;
+            synchronized (expiryQueue) {
+                expiry = expiryQueue.peek();
+                if (expiry == null || expiry.deadline > now) {
+                    break;
                 }
+                expiryQueue.poll();
+            }
+            BD device = expiry.device;
+            if (devices.get(device.getAddress()) != device) {
+                // already removed
+                continue;
+            }
+            long deadline = device.getLastActiveTimeMillis() + threshold;
+            if (deadline > now) {
+                scheduleExpiry(device, deadline);
+            } else if (!isRemovable(device)) {
+                scheduleExpiry(device, now + threshold);
+            } else {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
+                removed++;
             }
         }
+
+        long countStart = advertisementCountStart;
+        advertisementCountStart = System.nanoTime();
+        double seconds = (advertisementCountStart - countStart) / 1e9;
+        advertisementRate = seconds > 0 ? advertisementCount.sumThenReset() / seconds : 0;
+        logger.debug("Adapter '{}' knows {} devices, removed {} inactive ones, receiving {} advertisements/s",
+                getUID(), devices.size(), removed, String.format("%.1f", advertisementRate));
     }
 
     protected void removeDevice(BD device) {
         device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
-        }
+        devices.remove(device.getAddress(), device);
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
-    private boolean shouldRemove(BD device) {
+    private boolean isRemovable(BD device) {
         // we can't remove devices with listeners since that means they have a handler.
         if (device.hasListeners()) {
             return false;
         }
         // devices that are connected won't receive any scan notifications so we can't remove them for being idle
-        if (device.getConnectionState() == ConnectionState.CONNECTED) {
-            return false;
-        }
+        return device.getConnectionState() != ConnectionState.CONNECTED;
+    }
 
-        ZonedDateTime lastActiveTime = device.getLastSeenTime();
-        if (lastActiveTime == null) {
-            // we want any new device to at least live a certain amount of time so it has a chance to be discovered or
-            // listened to.
-            lastActiveTime = device.createTime;
+    private void scheduleExpiry(BD device, long deadline) {
+        synchronized (expiryQueue) {
+            expiryQueue.add(new Expiry<>(device, deadline));
         }
-        // we remove devices we haven't seen in a while
-        return ZonedDateTime.now().minusSeconds(config.inactiveDeviceCleanupThreshold).isAfter(lastActiveTime);
+    }
+
+    /**
+     * Counts an advertisement received by this adapter.
+     */
+    void advertisementReceived() {
+        advertisementCount.increment();
+    }
+
+    /**
+     * Returns the rate of advertisements this adapter received, measured over the last inactive device cleanup
+     * interval.
+     *
+     * @return the number of advertisements per second
+     */
+    public double getAdvertisementRate() {
+        return advertisementRate;
     }
 
     @Override
@@ -172,9 +221,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -186,9 +233,18 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
+        BD device = devices.get(address);
+        if (device != null) {
+            return device;
         }
+        return devices.computeIfAbsent(address, addr -> {
+            BD newDevice = createDevice(addr);
+            // we want any new device to at least live a certain amount of time so it has a chance to be discovered or
+            // listened to.
+            scheduleExpiry(newDevice, newDevice.getLastActiveTimeMillis()
+                    + TimeUnit.SECONDS.toMillis(config.inactiveDeviceCleanupThreshold));
+            return newDevice;
+        });
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
@@ -229,4 +285,14 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         Integer rssi = device.getRssi();
         return rssi != null && rssi != 0;
     }
+
+    private static class Expiry<D> {
+        private final D device;
+        private final long deadline;
+
+        private Expiry(D device, long deadline) {
+            this.device = device;
+            this.deadline = deadline;
+        }
+    }
 }
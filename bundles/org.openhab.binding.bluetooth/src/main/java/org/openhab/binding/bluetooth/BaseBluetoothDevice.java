@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Map;
@@ -72,12 +74,13 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      */
     protected @Nullable Integer txPower = null;
 
-    protected final transient ZonedDateTime createTime = ZonedDateTime.now();
+    protected final transient long createTimeMillis = System.currentTimeMillis();
 
     /**
-     * Last time when activity occurred on this device.
+     * Last time in epoch milliseconds when activity occurred on this device, 0 if there wasn't any yet.
+     * This is updated for every advertisement, so it is kept as a plain timestamp.
      */
-    protected @Nullable ZonedDateTime lastSeenTime = null;
+    protected volatile long lastSeenTimeMillis = 0;
 
     /**
      * The event listeners will be notified of device updates
@@ -106,7 +109,19 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      * @return The last time this device was active
      */
     public @Nullable ZonedDateTime getLastSeenTime() {
-        return lastSeenTime;
+        long lastSeenTimeMillis = this.lastSeenTimeMillis;
+        return lastSeenTimeMillis == 0 ? null
+                : ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastSeenTimeMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the last time this device was active or, if it never was, the time it was created.
+     *
+     * @return the time in epoch milliseconds
+     */
+    public long getLastActiveTimeMillis() {
+        long lastSeenTimeMillis = this.lastSeenTimeMillis;
+        return lastSeenTimeMillis == 0 ? createTimeMillis : lastSeenTimeMillis;
     }
 
     /**
@@ -115,7 +130,7 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      *
      */
     public void updateLastSeenTime() {
-        lastSeenTime = ZonedDateTime.now();
+        lastSeenTimeMillis = System.currentTimeMillis();
     }
 
     /**
@@ -311,6 +326,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     protected void notifyListeners(BluetoothEventType event, Object... args) {
         switch (event) {
             case SCAN_RECORD:
+                if (adapter instanceof AbstractBluetoothBridgeHandler) {
+                    ((AbstractBluetoothBridgeHandler<?>) adapter).advertisementReceived();
+                }
+                updateLastSeenTime();
+                break;
             case CHARACTERISTIC_UPDATED:
             case DESCRIPTOR_UPDATED:
             case SERVICES_DISCOVERED:
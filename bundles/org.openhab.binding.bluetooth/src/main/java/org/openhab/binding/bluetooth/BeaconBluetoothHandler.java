@@ -12,9 +12,11 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.measure.quantity.Power;
@@ -24,6 +26,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
 import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
 import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.util.AdvertisementFilter;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.Units;
@@ -63,6 +66,8 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     private @Nullable ZonedDateTime lastActivityTime;
 
+    private final AdvertisementFilter advertisementFilter = new AdvertisementFilter();
+
     public BeaconBluetoothHandler(Thing thing) {
         super(thing);
         deviceLock = new ReentrantLock();
@@ -92,6 +97,12 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
         adapter = (BluetoothAdapter) bridgeHandler;
 
+        Object minUpdateInterval = getConfig().get(BluetoothBindingConstants.CONFIGURATION_MIN_UPDATE_INTERVAL);
+        advertisementFilter.reset();
+        advertisementFilter.setMinUpdateInterval(minUpdateInterval instanceof BigDecimal
+                ? TimeUnit.SECONDS.toMillis(((BigDecimal) minUpdateInterval).longValue())
+                : 0);
+
         try {
             deviceLock.lock();
             device = adapter.getDevice(address);
@@ -161,6 +172,13 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // the filter would otherwise keep the new channel UNDEF until the advertised data changes
+        advertisementFilter.reset();
+        super.channelLinked(channelUID);
+    }
+
     /**
      * Updates the RSSI channel and the Thing status according to the new received rssi value
      */
@@ -218,6 +236,17 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         this.lastActivityTime = ZonedDateTime.now();
     }
 
+    /**
+     * Checks whether the data of the given advertisement has changed since the last one that was processed.
+     * Handlers which parse the advertisement data should skip parsing if this returns false.
+     *
+     * @param scanNotification the received advertisement
+     * @return true if the advertisement data should be processed
+     */
+    protected boolean isNewAdvertisement(BluetoothScanNotification scanNotification) {
+        return advertisementFilter.accept(scanNotification);
+    }
+
     @Override
     public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
         onActivity();
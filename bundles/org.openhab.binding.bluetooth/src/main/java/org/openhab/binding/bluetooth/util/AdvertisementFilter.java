@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Filters the advertisements of a single device, so that handlers only parse those which carry new data.
+ *
+ * An advertisement is accepted if its raw data or manufacturer data differs from the last accepted one and the
+ * minimum update interval has passed since then. Devices usually advertise the same data several times per second,
+ * so the repetitions are dropped without being parsed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilter {
+
+    private long minUpdateIntervalNanos = 0;
+
+    private byte @Nullable [] lastData;
+    private byte @Nullable [] lastManufacturerData;
+    private long lastAcceptedNanos;
+
+    /**
+     * Sets the minimum time between two accepted advertisements. A value of 0 only drops repeated advertisements.
+     *
+     * @param minUpdateIntervalMillis the minimum update interval in milliseconds
+     */
+    public synchronized void setMinUpdateInterval(long minUpdateIntervalMillis) {
+        this.minUpdateIntervalNanos = Math.max(0, minUpdateIntervalMillis) * 1_000_000L;
+    }
+
+    /**
+     * Checks whether the given advertisement should be processed and remembers it if it is.
+     *
+     * @param scanNotification the received advertisement
+     * @return true if the advertisement carries new data which should be processed
+     */
+    public synchronized boolean accept(BluetoothScanNotification scanNotification) {
+        byte[] data = scanNotification.getData();
+        byte[] manufacturerData = scanNotification.getManufacturerData();
+        long now = System.nanoTime();
+        boolean changed = !Arrays.equals(data, lastData) || !Arrays.equals(manufacturerData, lastManufacturerData);
+        if (!changed || (lastAcceptedNanos != 0 && now - lastAcceptedNanos < minUpdateIntervalNanos)) {
+            return false;
+        }
+        // the arrays may be reused by the sender, so we keep our own copies
+        lastData = data == null ? null : data.clone();
+        lastManufacturerData = manufacturerData == null ? null : manufacturerData.clone();
+        lastAcceptedNanos = now;
+        return true;
+    }
+
+    /**
+     * Forgets the last accepted advertisement, so that the next one is accepted in any case.
+     */
+    public synchronized void reset() {
+        lastData = null;
+        lastManufacturerData = null;
+        lastAcceptedNanos = 0;
+    }
+}
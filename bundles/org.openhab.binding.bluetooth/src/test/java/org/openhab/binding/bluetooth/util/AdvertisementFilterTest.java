@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * @author agent - Initial contribution
+ *
+ */
+class AdvertisementFilterTest {
+
+    @Test
+    void repeatedAdvertisementIsDropped() {
+        AdvertisementFilter filter = new AdvertisementFilter();
+        assertTrue(filter.accept(notification(1, 2, 3)));
+        assertFalse(filter.accept(notification(1, 2, 3)));
+        assertTrue(filter.accept(notification(1, 2, 4)));
+    }
+
+    @Test
+    void changedAdvertisementIsRateLimited() {
+        AdvertisementFilter filter = new AdvertisementFilter();
+        filter.setMinUpdateInterval(60_000);
+        assertTrue(filter.accept(notification(1)));
+        assertFalse(filter.accept(notification(2)));
+        filter.reset();
+        assertTrue(filter.accept(notification(2)));
+    }
+
+    @Test
+    void repeatedAdvertisementIsAcceptedAfterReset() {
+        AdvertisementFilter filter = new AdvertisementFilter();
+        assertTrue(filter.accept(notification(1, 2, 3)));
+        assertFalse(filter.accept(notification(1, 2, 3)));
+        filter.reset();
+        assertTrue(filter.accept(notification(1, 2, 3)));
+    }
+
+    private static BluetoothScanNotification notification(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setData(data);
+        notification.setManufacturerData(data);
+        return notification;
+    }
+}
@@ -21,6 +21,9 @@ import java.util.Enumeration;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
 /**
  * The {@link Helper} class has static functions that help the IpCamera binding not need as many external libs.
  *
@@ -113,6 +116,23 @@ public class Helper {
         return processed;
     }
 
+    /**
+     * The {@link consolidate} Copies a JPEG that was received in many parts into a single buffer of the exact size, so
+     * the receive buffers can be reused straight away instead of being kept alive by the JPEG.
+     *
+     * @param alloc the allocator the single buffer is taken from
+     * @param parts the received parts, they are released
+     * @return the JPEG in a single buffer
+     */
+    public static ByteBuf consolidate(ByteBufAllocator alloc, ByteBuf parts) {
+        try {
+            int length = parts.readableBytes();
+            return alloc.directBuffer(length, length).writeBytes(parts);
+        } finally {
+            parts.release();
+        }
+    }
+
     public static String getLocalIpAddress() {
         String ipAddress = "";
         try {
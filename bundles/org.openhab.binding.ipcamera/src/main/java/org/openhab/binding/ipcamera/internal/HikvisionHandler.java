@@ -14,7 +14,6 @@ package org.openhab.binding.ipcamera.internal;
 
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -29,8 +28,7 @@ import org.openhab.core.types.RefreshType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -262,9 +260,9 @@ public class HikvisionHandler extends ChannelDuplexHandler {
         request.headers().set(HttpHeaderNames.HOST, ipCameraHandler.cameraConfig.getIp());
         request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
         request.headers().add(HttpHeaderNames.CONTENT_TYPE, "application/xml; charset=\"UTF-8\"");
-        ByteBuf bbuf = Unpooled.copiedBuffer(xml, StandardCharsets.UTF_8);
-        request.headers().set(HttpHeaderNames.CONTENT_LENGTH, bbuf.readableBytes());
-        request.content().clear().writeBytes(bbuf);
+        request.content().clear();
+        ByteBufUtil.writeUtf8(request.content(), xml);
+        request.headers().set(HttpHeaderNames.CONTENT_LENGTH, request.content().readableBytes());
         ipCameraHandler.sendHttpPUT(httpPutURL, request);
     }
 
@@ -297,9 +295,9 @@ public class HikvisionHandler extends ChannelDuplexHandler {
             request.headers().set(HttpHeaderNames.HOST, ipCameraHandler.cameraConfig.getIp());
             request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
             request.headers().add(HttpHeaderNames.CONTENT_TYPE, "application/xml; charset=\"UTF-8\"");
-            ByteBuf bbuf = Unpooled.copiedBuffer(body, StandardCharsets.UTF_8);
-            request.headers().set(HttpHeaderNames.CONTENT_LENGTH, bbuf.readableBytes());
-            request.content().clear().writeBytes(bbuf);
+            request.content().clear();
+            ByteBufUtil.writeUtf8(request.content(), body);
+            request.headers().set(HttpHeaderNames.CONTENT_LENGTH, request.content().readableBytes());
             ipCameraHandler.sendHttpPUT(httpGetPutURL, request);
         }
     }
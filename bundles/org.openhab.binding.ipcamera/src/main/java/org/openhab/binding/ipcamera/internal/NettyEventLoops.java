@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * The {@link NettyEventLoops} holds the event loops and the buffer allocator that are shared by all camera, group,
+ * RTSP and ONVIF connections of the binding, so that the number of threads does not grow with the number of cameras.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NettyEventLoops {
+    private final EventLoopGroup clientGroup;
+    private final EventLoopGroup serverGroup;
+
+    /**
+     * @param clientThreads number of threads handling the connections to the cameras, 0 uses one per CPU core
+     * @param serverThreads number of threads handling the stream servers, 0 uses one per CPU core
+     */
+    public NettyEventLoops(int clientThreads, int serverThreads) {
+        clientGroup = new NioEventLoopGroup(threads(clientThreads),
+                new DefaultThreadFactory("OH-binding-ipcamera-client", true));
+        serverGroup = new NioEventLoopGroup(threads(serverThreads),
+                new DefaultThreadFactory("OH-binding-ipcamera-server", true));
+    }
+
+    private static int threads(int configured) {
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    public EventLoopGroup getClientGroup() {
+        return clientGroup;
+    }
+
+    public EventLoopGroup getServerGroup() {
+        return serverGroup;
+    }
+
+    public ByteBufAllocator getAllocator() {
+        return PooledByteBufAllocator.DEFAULT;
+    }
+
+    public void shutdown() {
+        clientGroup.shutdownGracefully();
+        serverGroup.shutdownGracefully();
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The {@link SnapshotRingBuffer} keeps the most recent snapshots of a camera, so a GIF can be created from the
+ * moments before it was requested. It is limited both in the number of snapshots and in the bytes they use, the
+ * oldest snapshots are dropped first. The snapshots are shared with the rest of the binding through reference
+ * counting, they normally are pooled direct buffers outside of the heap. The bytes used are the capacity of the
+ * buffers, which is what they actually hold on to, and not only the size of the JPEGs.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotRingBuffer {
+    private final Logger logger = LoggerFactory.getLogger(SnapshotRingBuffer.class);
+    private final long maxSizeInBytes;
+    private @Nullable ByteBuf[] snapshots;
+    private int oldest = 0;
+    private int size = 0;
+    private long sizeInBytes = 0;
+
+    /**
+     * @param capacity the maximum number of snapshots
+     * @param maxSizeInBytes the maximum number of bytes all snapshots may use together
+     */
+    public SnapshotRingBuffer(int capacity, long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        snapshots = new ByteBuf[Math.max(0, capacity)];
+    }
+
+    /**
+     * Changes the maximum number of snapshots, dropping the oldest ones if there are too many.
+     */
+    public synchronized void setCapacity(int capacity) {
+        capacity = Math.max(0, capacity);
+        if (capacity == snapshots.length) {
+            return;
+        }
+        while (size > capacity) {
+            removeOldest();
+        }
+        @Nullable ByteBuf[] resized = new ByteBuf[capacity];
+        for (int i = 0; i < size; i++) {
+            resized[i] = snapshots[(oldest + i) % snapshots.length];
+        }
+        snapshots = resized;
+        oldest = 0;
+    }
+
+    /**
+     * Adds a snapshot as the newest one.
+     *
+     * @param snapshot the JPEG, the buffer takes over the reference of the caller
+     */
+    public synchronized void add(ByteBuf snapshot) {
+        if (snapshots.length == 0) {
+            snapshot.release();
+            return;
+        }
+        if (size == snapshots.length) {
+            removeOldest();
+        }
+        snapshots[(oldest + size) % snapshots.length] = snapshot;
+        size++;
+        sizeInBytes += snapshot.capacity();
+        while (sizeInBytes > maxSizeInBytes && size > 0) {
+            removeOldest();
+        }
+    }
+
+    private void removeOldest() {
+        ByteBuf snapshot = snapshots[oldest];
+        if (snapshot != null) {
+            sizeInBytes -= snapshot.capacity();
+            snapshot.release();
+        }
+        snapshots[oldest] = null;
+        oldest = (oldest + 1) % snapshots.length;
+        size--;
+    }
+
+    /**
+     * Writes the snapshots from the oldest to the newest into numbered files, like prefix0.jpg, prefix1.jpg and so
+     * on. Each file is written straight from the buffer, without copying it through the heap. A file which can't be
+     * written is logged and skipped, the numbering of the other files stays the same.
+     *
+     * @param pathPrefix the folder and the start of the file names
+     * @return the number of files written
+     */
+    public synchronized int writeTo(String pathPrefix) {
+        int written = 0;
+        for (int i = 0; i < size; i++) {
+            ByteBuf snapshot = snapshots[(oldest + i) % snapshots.length];
+            if (snapshot == null) {
+                continue;
+            }
+            ByteBuffer[] buffers = snapshot.nioBuffers();
+            try (FileChannel file = FileChannel.open(Paths.get(pathPrefix + i + ".jpg"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long remaining = snapshot.readableBytes();
+                while (remaining > 0) {
+                    remaining -= file.write(buffers);
+                }
+                written++;
+            } catch (IOException e) {
+                logger.warn("IOException {}", e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Drops all snapshots and releases their buffers.
+     */
+    public synchronized void clear() {
+        while (size > 0) {
+            removeOldest();
+        }
+        oldest = 0;
+    }
+}
@@ -17,7 +17,6 @@ import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.CHA
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.nio.charset.StandardCharsets;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,7 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -138,7 +137,7 @@ public class StreamServerGroupHandler extends ChannelInboundHandlerAdapter {
         IpCameraHandler handler = ipCameraGroupHandler.cameraOrder.get(ipCameraGroupHandler.cameraIndex);
         handler.lockCurrentSnapshot.lock();
         try {
-            ByteBuf snapshotData = Unpooled.copiedBuffer(handler.currentSnapshot);
+            ByteBuf snapshotData = handler.currentSnapshot.retainedDuplicate();
             response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
             response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
@@ -147,7 +146,7 @@ public class StreamServerGroupHandler extends ChannelInboundHandlerAdapter {
             response.headers().add("Access-Control-Expose-Headers", "*");
             ctx.channel().write(response);
             ctx.channel().write(snapshotData);
-            ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+            ByteBuf footerBbuf = ByteBufUtil.writeAscii(ctx.alloc(), "\r\n");
             ctx.channel().writeAndFlush(footerBbuf);
         } finally {
             handler.lockCurrentSnapshot.unlock();
@@ -158,7 +157,7 @@ public class StreamServerGroupHandler extends ChannelInboundHandlerAdapter {
         logger.trace("file is :{}", fileUri);
         File file = new File(fileUri);
         ChunkedFile chunkedFile = new ChunkedFile(file);
-        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+        ByteBuf footerBbuf = ByteBufUtil.writeAscii(ctx.alloc(), "\r\n");
         HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
         response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
         response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
@@ -172,7 +171,7 @@ public class StreamServerGroupHandler extends ChannelInboundHandlerAdapter {
     }
 
     private void sendString(ChannelHandlerContext ctx, String contents, String contentType) {
-        ByteBuf contentsBbuf = Unpooled.copiedBuffer(contents, 0, contents.length(), StandardCharsets.UTF_8);
+        ByteBuf contentsBbuf = ByteBufUtil.writeUtf8(ctx.alloc(), contents);
         HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
         response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
         response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
@@ -180,7 +179,7 @@ public class StreamServerGroupHandler extends ChannelInboundHandlerAdapter {
         response.headers().add(HttpHeaderNames.CONTENT_LENGTH, contentsBbuf.readableBytes());
         response.headers().add("Access-Control-Allow-Origin", "*");
         response.headers().add("Access-Control-Expose-Headers", "*");
-        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+        ByteBuf footerBbuf = ByteBufUtil.writeAscii(ctx.alloc(), "\r\n");
         ctx.channel().write(response);
         ctx.channel().write(contentsBbuf);
         ctx.channel().writeAndFlush(footerBbuf);
@@ -26,7 +26,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -57,7 +58,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
     private IpCameraHandler ipCameraHandler;
     private boolean handlingMjpeg = false; // used to remove ctx from group when handler is removed.
     private boolean handlingSnapshotStream = false; // used to remove ctx from group when handler is removed.
-    private byte[] incomingJpeg = new byte[0];
+    private @Nullable CompositeByteBuf incomingJpeg;
     private String whiteList = "";
     private int recievedBytes = 0;
     private boolean updateSnapshot = false;
@@ -120,7 +121,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
                             if (!ipCameraHandler.snapshotPolling && ipCameraHandler.snapshotUri != "") {
                                 ipCameraHandler.sendHttpGET(ipCameraHandler.snapshotUri);
                             }
-                            if (ipCameraHandler.currentSnapshot.length == 1) {
+                            if (!ipCameraHandler.hasSnapshot()) {
                                 logger.warn("ipcamera.jpg was requested but there is no jpg in ram to send.");
                                 return;
                             }
@@ -176,25 +177,34 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
             }
             if (msg instanceof HttpContent) {
                 HttpContent content = (HttpContent) msg;
-                if (recievedBytes == 0) {
-                    incomingJpeg = new byte[content.content().readableBytes()];
-                    content.content().getBytes(0, incomingJpeg, 0, content.content().readableBytes());
-                } else {
-                    byte[] temp = incomingJpeg;
-                    incomingJpeg = new byte[recievedBytes + content.content().readableBytes()];
-                    System.arraycopy(temp, 0, incomingJpeg, 0, temp.length);
-                    content.content().getBytes(0, incomingJpeg, temp.length, content.content().readableBytes());
+                CompositeByteBuf localJpeg = incomingJpeg;
+                if (localJpeg == null) {
+                    localJpeg = ctx.alloc().compositeBuffer(IpCameraHandler.MAX_JPEG_COMPONENTS);
+                    incomingJpeg = localJpeg;
                 }
-                recievedBytes = incomingJpeg.length;
+                // collects the received buffers and copies them only once the JPEG is complete, msg is released below
+                localJpeg.addComponent(true, content.content().retain());
+                recievedBytes = localJpeg.readableBytes();
                 if (content instanceof LastHttpContent) {
+                    incomingJpeg = null;
                     if (updateSnapshot) {
-                        ipCameraHandler.processSnapshot(incomingJpeg);
+                        ipCameraHandler.processSnapshot(Helper.consolidate(ctx.alloc(), localJpeg));
                     } else if (onvifEvent) {
-                        ipCameraHandler.onvifCamera.eventRecieved(new String(incomingJpeg, StandardCharsets.UTF_8));
-                    } else { // handles the snapshots that make up mjpeg from rtsp to ffmpeg conversions.
-                        if (recievedBytes > 1000) {
-                            ipCameraHandler.sendMjpegFrame(incomingJpeg, ipCameraHandler.mjpegChannelGroup);
+                        try {
+                            ipCameraHandler.onvifCamera.eventRecieved(localJpeg.toString(StandardCharsets.UTF_8));
+                        } finally {
+                            localJpeg.release();
                         }
+                    } else if (recievedBytes > 1000) {
+                        // handles the snapshots that make up mjpeg from rtsp to ffmpeg conversions.
+                        ByteBuf frame = Helper.consolidate(ctx.alloc(), localJpeg);
+                        try {
+                            ipCameraHandler.sendMjpegFrame(frame, ipCameraHandler.mjpegChannelGroup);
+                        } finally {
+                            frame.release();
+                        }
+                    } else {
+                        localJpeg.release();
                     }
                     recievedBytes = 0;
                 }
@@ -208,7 +218,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
         HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
         ipCameraHandler.lockCurrentSnapshot.lock();
         try {
-            ByteBuf snapshotData = Unpooled.copiedBuffer(ipCameraHandler.currentSnapshot);
+            ByteBuf snapshotData = ipCameraHandler.currentSnapshot.retainedDuplicate();
             response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
             response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
@@ -217,7 +227,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
             response.headers().add("Access-Control-Expose-Headers", "*");
             ctx.channel().write(response);
             ctx.channel().write(snapshotData);
-            ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+            ByteBuf footerBbuf = ByteBufUtil.writeAscii(ctx.alloc(), "\r\n");
             ctx.channel().writeAndFlush(footerBbuf);
         } finally {
             ipCameraHandler.lockCurrentSnapshot.unlock();
@@ -236,7 +246,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
         response.headers().add("Access-Control-Expose-Headers", "*");
         ctx.channel().write(response);
         ctx.channel().write(chunkedFile);
-        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+        ByteBuf footerBbuf = ByteBufUtil.writeAscii(ctx.alloc(), "\r\n");
         ctx.channel().writeAndFlush(footerBbuf);
     }
 
@@ -283,6 +293,11 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
         if (ctx == null) {
             return;
         }
+        CompositeByteBuf localJpeg = incomingJpeg;
+        if (localJpeg != null) {
+            localJpeg.release();
+            incomingJpeg = null;
+        }
         ctx.close();
         if (handlingMjpeg) {
             ipCameraHandler.setupMjpegStreaming(false, ctx);
@@ -15,18 +15,12 @@ package org.openhab.binding.ipcamera.internal.handler;
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -55,6 +49,8 @@ import org.openhab.binding.ipcamera.internal.IpCameraActions;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
+import org.openhab.binding.ipcamera.internal.NettyEventLoops;
+import org.openhab.binding.ipcamera.internal.SnapshotRingBuffer;
 import org.openhab.binding.ipcamera.internal.StreamServerHandler;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.core.library.types.DecimalType;
@@ -78,6 +74,9 @@ import org.slf4j.LoggerFactory;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -86,10 +85,8 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -125,6 +122,10 @@ import io.netty.util.concurrent.GlobalEventExecutor;
 
 @NonNullByDefault
 public class IpCameraHandler extends BaseThingHandler {
+    // a JPEG arrives in many network buffers, they are collected until it is complete and then copied only once
+    public static final int MAX_JPEG_COMPONENTS = 1024;
+    // upper limit for the snapshots kept for GIFs, frames are dropped if large snapshots exceed it
+    private static final long MAX_PREROLL_SIZE_IN_BYTES = 64 * 1024 * 1024;
     public final Logger logger = LoggerFactory.getLogger(getClass());
     public final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(4);
@@ -151,8 +152,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable Bootstrap mainBootstrap;
     private @Nullable ServerBootstrap serverBootstrap;
 
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup();
-    private EventLoopGroup serversLoopGroup = new NioEventLoopGroup();
+    private final NettyEventLoops eventLoops;
+    // the server side channels of the stream server, closed with it as the event loops are shared
+    private final ChannelGroup serverChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, new HttpMethod("PUT"),
             "");
     private String gifFilename = "ipcamera";
@@ -163,7 +165,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<byte[]>();
+    private final SnapshotRingBuffer snapshotRingBuffer = new SnapshotRingBuffer(0, MAX_PREROLL_SIZE_IN_BYTES);
     private int snapCount;
     private boolean updateImageChannel = false;
     private boolean updateAutoFps = false;
@@ -180,7 +182,8 @@ public class IpCameraHandler extends BaseThingHandler {
     public String mjpegUri = "";
     private @Nullable ChannelFuture serverFuture = null;
     private Object firstStreamedMsg = new Object();
-    public byte[] currentSnapshot = new byte[] { (byte) 0x00 };
+    // reference counted, only retain or duplicate it while holding lockCurrentSnapshot
+    public ByteBuf currentSnapshot = Unpooled.EMPTY_BUFFER;
     public ReentrantLock lockCurrentSnapshot = new ReentrantLock();
     public String rtspUri = "";
     public boolean audioAlarmUpdateSnapshot = false;
@@ -203,7 +206,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private class CommonCameraHandler extends ChannelDuplexHandler {
         private int bytesToRecieve = 0;
         private int bytesAlreadyRecieved = 0;
-        private byte[] incomingJpeg = new byte[0];
+        private @Nullable CompositeByteBuf incomingJpeg;
         private String incomingMessage = "";
         private String contentType = "empty";
         private String boundary = "";
@@ -264,7 +267,8 @@ public class IpCameraHandler extends BaseThingHandler {
                                     bytesToRecieve = 768000; // 0.768 Mbyte when no Content-Length is sent
                                     logger.debug("Camera has no Content-Length header, we have to guess how much RAM.");
                                 }
-                                incomingJpeg = new byte[bytesToRecieve];
+                                releaseIncomingJpeg();
+                                incomingJpeg = ctx.alloc().compositeBuffer(MAX_JPEG_COMPONENTS);
                             }
                         }
                     }
@@ -277,12 +281,14 @@ public class IpCameraHandler extends BaseThingHandler {
                     } else {
                         HttpContent content = (HttpContent) msg;
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
-                        if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyRecieved++] = content.content().getByte(i);
-                            }
+                        CompositeByteBuf localJpeg = incomingJpeg;
+                        if (contentType.contains("image/jp") && localJpeg != null) {
+                            // collects the received buffers and copies them only once the JPEG is complete
+                            bytesAlreadyRecieved += content.content().readableBytes();
+                            localJpeg.addComponent(true, content.content().retain());
                             if (content instanceof LastHttpContent) {
-                                processSnapshot(incomingJpeg);
+                                incomingJpeg = null;
+                                processSnapshot(Helper.consolidate(ctx.alloc(), localJpeg));
                                 // testing next line and if works need to do a full cleanup of this function.
                                 closeConnection = true;
                                 if (closeConnection) {
@@ -368,6 +374,15 @@ public class IpCameraHandler extends BaseThingHandler {
 
         @Override
         public void handlerRemoved(@Nullable ChannelHandlerContext ctx) {
+            releaseIncomingJpeg();
+        }
+
+        private void releaseIncomingJpeg() {
+            CompositeByteBuf localJpeg = incomingJpeg;
+            if (localJpeg != null) {
+                localJpeg.release();
+                incomingJpeg = null;
+            }
         }
 
         @Override
@@ -419,9 +434,10 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, NettyEventLoops eventLoops) {
         super(thing);
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.eventLoops = eventLoops;
         if (ipAddress != null) {
             hostIp = ipAddress;
         } else {
@@ -434,6 +450,10 @@ public class IpCameraHandler extends BaseThingHandler {
         return this;
     }
 
+    public NettyEventLoops getEventLoops() {
+        return eventLoops;
+    }
+
     // false clears the stored user/pass hash, true creates the hash
     public boolean setBasicAuth(boolean useBasic) {
         if (!useBasic) {
@@ -527,8 +547,9 @@ public class IpCameraHandler extends BaseThingHandler {
 
         if (mainBootstrap == null) {
             mainBootstrap = new Bootstrap();
-            mainBootstrap.group(mainEventLoopGroup);
+            mainBootstrap.group(eventLoops.getClientGroup());
             mainBootstrap.channel(NioSocketChannel.class);
+            mainBootstrap.option(ChannelOption.ALLOCATOR, eventLoops.getAllocator());
             mainBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
             mainBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 4500);
             mainBootstrap.option(ChannelOption.SO_SNDBUF, 1024 * 8);
@@ -641,20 +662,33 @@ public class IpCameraHandler extends BaseThingHandler {
                 });
     }
 
-    public void processSnapshot(byte[] incommingSnapshot) {
+    /**
+     * Stores a new snapshot and sends it to the streams that use it.
+     *
+     * @param incommingSnapshot the JPEG, this method takes over the reference of the caller
+     */
+    public void processSnapshot(ByteBuf incommingSnapshot) {
         lockCurrentSnapshot.lock();
         try {
+            currentSnapshot.release();
             currentSnapshot = incommingSnapshot;
+            // keeps the snapshot alive while it is sent, even if a newer one replaces it
+            incommingSnapshot.retain();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+        try {
             if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
-                if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
-                }
+                snapshotRingBuffer.setCapacity(cameraConfig.getGifPreroll() + gifRecordTime);
+                snapshotRingBuffer.add(incommingSnapshot.retain());
             }
+            sendSnapshotToStreams(incommingSnapshot);
         } finally {
-            lockCurrentSnapshot.unlock();
+            incommingSnapshot.release();
         }
+    }
 
+    private void sendSnapshotToStreams(ByteBuf incommingSnapshot) {
         if (streamingSnapshotMjpeg) {
             sendMjpegFrame(incommingSnapshot, snapshotMjpegChannelGroup);
         }
@@ -669,18 +703,45 @@ public class IpCameraHandler extends BaseThingHandler {
         }
 
         if (updateImageChannel) {
-            updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
+            updateImageState(incommingSnapshot);
         } else if (firstMotionAlarm || motionAlarmUpdateSnapshot) {
-            updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
+            updateImageState(incommingSnapshot);
             firstMotionAlarm = motionAlarmUpdateSnapshot = false;
         } else if (firstAudioAlarm || audioAlarmUpdateSnapshot) {
-            updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
+            updateImageState(incommingSnapshot);
             firstAudioAlarm = audioAlarmUpdateSnapshot = false;
         }
     }
 
+    private void updateImageState(ByteBuf snapshot) {
+        // only copy the frame out of the network buffers if someone is interested in it
+        if (isLinked(CHANNEL_IMAGE)) {
+            updateState(CHANNEL_IMAGE, new RawType(ByteBufUtil.getBytes(snapshot), "image/jpeg"));
+        }
+    }
+
+    public boolean hasSnapshot() {
+        lockCurrentSnapshot.lock();
+        try {
+            return currentSnapshot.isReadable();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+    }
+
+    private void releaseSnapshots() {
+        lockCurrentSnapshot.lock();
+        try {
+            currentSnapshot.release();
+            currentSnapshot = Unpooled.EMPTY_BUFFER;
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+        snapshotRingBuffer.clear();
+    }
+
     public void stopStreamServer() {
-        serversLoopGroup.shutdownGracefully();
+        serverChannels.close();
         serverBootstrap = null;
     }
 
@@ -688,15 +749,16 @@ public class IpCameraHandler extends BaseThingHandler {
     public void startStreamServer() {
         if (serverBootstrap == null) {
             try {
-                serversLoopGroup = new NioEventLoopGroup();
                 serverBootstrap = new ServerBootstrap();
-                serverBootstrap.group(serversLoopGroup);
+                serverBootstrap.group(eventLoops.getServerGroup());
                 serverBootstrap.channel(NioServerSocketChannel.class);
+                serverBootstrap.childOption(ChannelOption.ALLOCATOR, eventLoops.getAllocator());
                 // IP "0.0.0.0" will bind the server to all network connections//
                 serverBootstrap.localAddress(new InetSocketAddress("0.0.0.0", cameraConfig.getServerPort()));
                 serverBootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
+                        serverChannels.add(socketChannel);
                         socketChannel.pipeline().addLast("idleStateHandler", new IdleStateHandler(0, 60, 0));
                         socketChannel.pipeline().addLast("HttpServerCodec", new HttpServerCodec());
                         socketChannel.pipeline().addLast("ChunkedWriteHandler", new ChunkedWriteHandler());
@@ -705,6 +767,7 @@ public class IpCameraHandler extends BaseThingHandler {
                 });
                 serverFuture = serverBootstrap.bind().sync();
                 serverFuture.await(4000);
+                serverChannels.add(serverFuture.channel());
                 logger.debug("File server for camera at {} has started on port {} for all NIC's.", cameraConfig.getIp(),
                         cameraConfig.getServerPort());
                 updateState(CHANNEL_MJPEG_URL,
@@ -868,14 +931,19 @@ public class IpCameraHandler extends BaseThingHandler {
         ctx.channel().writeAndFlush(response);
     }
 
-    public void sendMjpegFrame(byte[] jpg, ChannelGroup channelGroup) {
+    /**
+     * Sends a JPEG as the next frame of the MJPEG streams in the channel group. The frame is shared by all channels
+     * without being copied, the caller keeps its reference.
+     */
+    public void sendMjpegFrame(ByteBuf jpg, ChannelGroup channelGroup) {
         final String boundary = "thisMjpegStream";
-        ByteBuf imageByteBuf = Unpooled.copiedBuffer(jpg);
+        ByteBufAllocator allocator = eventLoops.getAllocator();
+        ByteBuf imageByteBuf = jpg.retainedDuplicate();
         int length = imageByteBuf.readableBytes();
         String header = "--" + boundary + "\r\n" + "content-type: image/jpeg" + "\r\n" + "content-length: " + length
                 + "\r\n\r\n";
-        ByteBuf headerBbuf = Unpooled.copiedBuffer(header, 0, header.length(), StandardCharsets.UTF_8);
-        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+        ByteBuf headerBbuf = ByteBufUtil.writeAscii(allocator, header);
+        ByteBuf footerBbuf = ByteBufUtil.writeAscii(allocator, "\r\n");
         streamToGroup(headerBbuf, channelGroup, false);
         streamToGroup(imageByteBuf, channelGroup, false);
         streamToGroup(footerBbuf, channelGroup, true);
@@ -889,26 +957,7 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     private void storeSnapshots() {
-        int count = 0;
-        // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
-        lockCurrentSnapshot.lock();
-        try {
-            for (byte[] foo : fifoSnapshotBuffer) {
-                File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
-                count++;
-                try {
-                    OutputStream fos = new FileOutputStream(file);
-                    fos.write(foo);
-                    fos.close();
-                } catch (FileNotFoundException e) {
-                    logger.warn("FileNotFoundException {}", e.getMessage());
-                } catch (IOException e) {
-                    logger.warn("IOException {}", e.getMessage());
-                }
-            }
-        } finally {
-            lockCurrentSnapshot.unlock();
-        }
+        snapshotRingBuffer.writeTo(cameraConfig.getFfmpegOutput() + "snapshot");
     }
 
     public void setupFfmpegFormat(FFmpegFormat format) {
@@ -1780,6 +1829,7 @@ public class IpCameraHandler extends BaseThingHandler {
         useDigestAuth = false;
         stopStreamServer();
         openChannels.close();
+        releaseSnapshots();
 
         Ffmpeg localFfmpeg = ffmpegHLS;
         if (localFfmpeg != null) {
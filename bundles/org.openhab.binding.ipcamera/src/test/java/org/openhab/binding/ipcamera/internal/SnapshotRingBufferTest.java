@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tests the {@link SnapshotRingBuffer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotRingBufferTest {
+
+    @Test
+    public void oldestSnapshotIsDroppedWhenFull(@TempDir Path folder) throws IOException {
+        SnapshotRingBuffer ringBuffer = new SnapshotRingBuffer(3, 1024);
+        ByteBuf[] snapshots = new ByteBuf[5];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = snapshot(i, 10);
+            ringBuffer.add(snapshots[i]);
+        }
+
+        assertEquals(3, ringBuffer.size());
+        assertEquals(30, ringBuffer.getSizeInBytes());
+        assertEquals(0, snapshots[0].refCnt());
+        assertEquals(0, snapshots[1].refCnt());
+        assertEquals(1, snapshots[2].refCnt());
+        assertEquals(1, snapshots[4].refCnt());
+
+        assertEquals(3, ringBuffer.writeTo(folder.resolve("snapshot").toString()));
+        assertContent(folder.resolve("snapshot0.jpg"), 2, 10);
+        assertContent(folder.resolve("snapshot1.jpg"), 3, 10);
+        assertContent(folder.resolve("snapshot2.jpg"), 4, 10);
+    }
+
+    @Test
+    public void shrinkingDropsOldestSnapshots(@TempDir Path folder) throws IOException {
+        SnapshotRingBuffer ringBuffer = new SnapshotRingBuffer(3, 1024);
+        ByteBuf[] snapshots = new ByteBuf[4];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = snapshot(i, 10);
+            ringBuffer.add(snapshots[i]);
+        }
+
+        // the oldest snapshot is no longer at the start of the array
+        ringBuffer.setCapacity(2);
+        assertEquals(2, ringBuffer.size());
+        assertEquals(20, ringBuffer.getSizeInBytes());
+        assertEquals(0, snapshots[1].refCnt());
+        assertEquals(1, snapshots[2].refCnt());
+
+        ringBuffer.setCapacity(4);
+        ByteBuf newest = snapshot(4, 10);
+        ringBuffer.add(newest);
+        assertEquals(3, ringBuffer.size());
+
+        assertEquals(3, ringBuffer.writeTo(folder.resolve("snapshot").toString()));
+        assertContent(folder.resolve("snapshot0.jpg"), 2, 10);
+        assertContent(folder.resolve("snapshot1.jpg"), 3, 10);
+        assertContent(folder.resolve("snapshot2.jpg"), 4, 10);
+
+        ringBuffer.setCapacity(0);
+        assertEquals(0, ringBuffer.size());
+        assertEquals(0, ringBuffer.getSizeInBytes());
+        assertEquals(0, newest.refCnt());
+    }
+
+    @Test
+    public void byteBudgetDropsOldestSnapshots() {
+        SnapshotRingBuffer ringBuffer = new SnapshotRingBuffer(10, 100);
+        ByteBuf first = snapshot(0, 40);
+        ByteBuf second = snapshot(1, 40);
+        ByteBuf third = snapshot(2, 40);
+        ringBuffer.add(first);
+        ringBuffer.add(second);
+        ringBuffer.add(third);
+
+        assertEquals(2, ringBuffer.size());
+        assertEquals(80, ringBuffer.getSizeInBytes());
+        assertEquals(0, first.refCnt());
+        assertEquals(1, second.refCnt());
+
+        // a snapshot larger than the budget is not kept at all
+        ByteBuf tooLarge = snapshot(3, 150);
+        ringBuffer.add(tooLarge);
+        assertEquals(0, ringBuffer.size());
+        assertEquals(0, ringBuffer.getSizeInBytes());
+        assertEquals(0, second.refCnt());
+        assertEquals(0, third.refCnt());
+        assertEquals(0, tooLarge.refCnt());
+    }
+
+    @Test
+    public void byteBudgetCountsCapacity() {
+        SnapshotRingBuffer ringBuffer = new SnapshotRingBuffer(10, 100);
+        // only 10 bytes are used, but the buffer holds on to 60
+        ByteBuf first = Unpooled.buffer(60).writeZero(10);
+        ByteBuf second = Unpooled.buffer(60).writeZero(10);
+        ringBuffer.add(first);
+        assertEquals(60, ringBuffer.getSizeInBytes());
+
+        ringBuffer.add(second);
+        assertEquals(1, ringBuffer.size());
+        assertEquals(0, first.refCnt());
+    }
+
+    @Test
+    public void writeToSkipsFilesThatFail(@TempDir Path folder) throws IOException {
+        SnapshotRingBuffer ringBuffer = new SnapshotRingBuffer(3, 1024);
+        for (int i = 0; i < 3; i++) {
+            ringBuffer.add(snapshot(i, 10));
+        }
+        // a folder can't be opened as a file
+        Files.createDirectory(folder.resolve("snapshot1.jpg"));
+
+        assertEquals(2, ringBuffer.writeTo(folder.resolve("snapshot").toString()));
+        assertContent(folder.resolve("snapshot0.jpg"), 0, 10);
+        assertContent(folder.resolve("snapshot2.jpg"), 2, 10);
+    }
+
+    @Test
+    public void clearAndZeroCapacityReleaseSnapshots() {
+        SnapshotRingBuffer ringBuffer = new SnapshotRingBuffer(0, 1024);
+        ByteBuf dropped = snapshot(0, 10);
+        ringBuffer.add(dropped);
+        assertEquals(0, ringBuffer.size());
+        assertEquals(0, dropped.refCnt());
+
+        ringBuffer.setCapacity(2);
+        ByteBuf first = snapshot(1, 10);
+        ByteBuf second = snapshot(2, 10);
+        ringBuffer.add(first);
+        ringBuffer.add(second);
+        ringBuffer.clear();
+        assertEquals(0, ringBuffer.size());
+        assertEquals(0, ringBuffer.getSizeInBytes());
+        assertEquals(0, first.refCnt());
+        assertEquals(0, second.refCnt());
+    }
+
+    private static ByteBuf snapshot(int value, int length) {
+        ByteBuf snapshot = Unpooled.buffer(length, length);
+        for (int i = 0; i < length; i++) {
+            snapshot.writeByte(value);
+        }
+        return snapshot;
+    }
+
+    private static void assertContent(Path file, int value, int length) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        assertEquals(length, content.length);
+        for (byte b : content) {
+            assertEquals(value, b);
+        }
+    }
+}
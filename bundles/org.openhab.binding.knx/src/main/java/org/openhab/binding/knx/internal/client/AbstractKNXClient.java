@@ -12,9 +12,10 @@
  */
 package org.openhab.binding.knx.internal.client;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -73,6 +74,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private final int readingPause;
     private final int autoReconnectPeriod;
     private final int readRetriesLimit;
+    private final long minReadIntervalNanos;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
 
@@ -85,8 +87,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> groupAddressListeners = new ConcurrentHashMap<>();
+    /** The registered listeners by the group addresses they listen to, so telegrams only go to interested listeners */
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressIndex = new ConcurrentHashMap<>();
+    private final ReadRequestQueue readDatapoints = new ReadRequestQueue();
+    private long nextReadNanos = System.nanoTime();
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -124,12 +129,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     };
 
     public AbstractKNXClient(int autoReconnectPeriod, ThingUID thingUID, int responseTimeout, int readingPause,
-            int readRetriesLimit, ScheduledExecutorService knxScheduler, StatusUpdateCallback statusUpdateCallback) {
+            int readRetriesLimit, int maxReadsPerSecond, ScheduledExecutorService knxScheduler,
+            StatusUpdateCallback statusUpdateCallback) {
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
         this.readRetriesLimit = readRetriesLimit;
+        this.minReadIntervalNanos = maxReadsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxReadsPerSecond : 0;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
     }
@@ -252,10 +259,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        Set<GroupAddressListener> listeners = groupAddressIndex.get(destination);
+        if (listeners == null) {
+            return;
+        }
+        for (GroupAddressListener listener : listeners) {
+            knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
         }
     }
 
@@ -280,15 +289,27 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
+        long now = System.nanoTime();
+        if (minReadIntervalNanos > 0 && now - nextReadNanos < 0) {
+            // the read budget for the bus is used up
+            return;
+        }
+        ReadRequestQueue.Entry entry = readDatapoints.poll();
+        if (entry != null) {
+            nextReadNanos = now + minReadIntervalNanos;
+            ReadDatapoint datapoint = entry.getDatapoint();
             datapoint.incrementRetries();
             try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+                logger.trace("Sending a Group Read Request telegram for {} ({}, {} reads queued)",
+                        datapoint.getDatapoint().getMainAddress(), entry.getPriority(), readDatapoints.size());
                 processCommunicator.read(datapoint.getDatapoint());
+                if (readDatapoints.isEmpty()) {
+                    logger.debug("Bridge {} finished sending queued read requests: {}", thingUID,
+                            readDatapoints.drainStatistics());
+                }
             } catch (KNXException e) {
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readDatapoints.retry(datapoint, entry.getPriority());
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -367,23 +388,43 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readDatapoints.offer(new ReadDatapoint(datapoint, readRetriesLimit), priority);
     }
 
     @Override
-    public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+    public final synchronized boolean registerGroupAddressListener(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = listener.getGroupAddresses();
+        Set<GroupAddress> previousAddresses = groupAddressListeners.put(listener, groupAddresses);
+        if (previousAddresses != null) {
+            removeFromIndex(listener, previousAddresses);
+        }
+        for (GroupAddress groupAddress : groupAddresses) {
+            groupAddressIndex.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+        return previousAddresses == null;
     }
 
     @Override
-    public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+    public final synchronized boolean unregisterGroupAddressListener(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = groupAddressListeners.remove(listener);
+        if (groupAddresses == null) {
+            return false;
+        }
+        removeFromIndex(listener, groupAddresses);
+        return true;
+    }
+
+    private void removeFromIndex(GroupAddressListener listener, Set<GroupAddress> groupAddresses) {
+        for (GroupAddress groupAddress : groupAddresses) {
+            Set<GroupAddressListener> listeners = groupAddressIndex.get(groupAddress);
+            if (listeners != null) {
+                listeners.remove(listener);
+                if (listeners.isEmpty()) {
+                    groupAddressIndex.remove(groupAddress);
+                }
+            }
+        }
     }
 
     @Override
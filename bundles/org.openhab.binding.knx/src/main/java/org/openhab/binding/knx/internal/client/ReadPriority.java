@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+/**
+ * The priority of a queued read request. Requests with a higher priority are sent to the bus first.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public enum ReadPriority {
+    /** an explicit refresh, somebody is waiting for the value */
+    REFRESH,
+    /** a periodic read of a channel with a read interval */
+    PERIODIC,
+    /** the initial read of a channel, e.g. after (re-)connecting to the bus */
+    INITIAL
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of read requests, deduplicated by group address and ordered by {@link ReadPriority} and then by arrival.
+ *
+ * Queuing a read for a group address which is already queued doesn't add another request, but moves the queued
+ * request up if the new one has a higher priority. Furthermore, the queue keeps track of how many requests went
+ * through it and how long they waited.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ReadRequestQueue {
+
+    private final Map<ReadPriority, LinkedHashMap<GroupAddress, Entry>> queues = new EnumMap<>(ReadPriority.class);
+    private final Map<GroupAddress, Entry> entries = new HashMap<>();
+
+    private long queued;
+    private long coalesced;
+    private long sent;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    public ReadRequestQueue() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Adds the given read request unless a request for its group address is already queued.
+     *
+     * @param datapoint the read request
+     * @param priority the priority of the request
+     * @return {@code true} if the request was added, {@code false} if it was merged into a queued one
+     */
+    public synchronized boolean offer(ReadDatapoint datapoint, ReadPriority priority) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        Entry entry = entries.get(groupAddress);
+        if (entry != null) {
+            coalesced++;
+            if (priority.compareTo(entry.priority) < 0) {
+                queue(entry.priority).remove(groupAddress);
+                entry.priority = priority;
+                queue(priority).put(groupAddress, entry);
+            }
+            return false;
+        }
+        entry = new Entry(datapoint, priority, System.nanoTime());
+        entries.put(groupAddress, entry);
+        queue(priority).put(groupAddress, entry);
+        queued++;
+        return true;
+    }
+
+    /**
+     * Queues a request again after a failed attempt, keeping its priority.
+     *
+     * @param datapoint the read request
+     * @param priority the priority it had been queued with
+     */
+    public synchronized void retry(ReadDatapoint datapoint, ReadPriority priority) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (!entries.containsKey(groupAddress)) {
+            Entry entry = new Entry(datapoint, priority, System.nanoTime());
+            entries.put(groupAddress, entry);
+            queue(priority).put(groupAddress, entry);
+        }
+    }
+
+    /**
+     * Removes the request with the highest priority from the queue.
+     *
+     * @return the request and its priority or {@code null} if the queue is empty
+     */
+    public synchronized @Nullable Entry poll() {
+        for (LinkedHashMap<GroupAddress, Entry> queue : queues.values()) {
+            Iterator<Entry> iterator = queue.values().iterator();
+            if (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                iterator.remove();
+                entries.remove(entry.datapoint.getDatapoint().getMainAddress());
+                long latency = System.nanoTime() - entry.queuedNanos;
+                sent++;
+                totalLatencyNanos += latency;
+                maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("null")
+    private LinkedHashMap<GroupAddress, Entry> queue(ReadPriority priority) {
+        return queues.get(priority);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        queues.values().forEach(Map::clear);
+    }
+
+    /**
+     * Gets the statistics since the last call and resets them.
+     *
+     * @return the statistics
+     */
+    public synchronized Statistics drainStatistics() {
+        Statistics statistics = new Statistics(queued, coalesced, sent,
+                sent == 0 ? 0 : totalLatencyNanos / sent / 1_000_000, maxLatencyNanos / 1_000_000);
+        queued = 0;
+        coalesced = 0;
+        sent = 0;
+        totalLatencyNanos = 0;
+        maxLatencyNanos = 0;
+        return statistics;
+    }
+
+    /**
+     * A queued read request.
+     */
+    public static class Entry {
+        private final ReadDatapoint datapoint;
+        private ReadPriority priority;
+        private final long queuedNanos;
+
+        private Entry(ReadDatapoint datapoint, ReadPriority priority, long queuedNanos) {
+            this.datapoint = datapoint;
+            this.priority = priority;
+            this.queuedNanos = queuedNanos;
+        }
+
+        public ReadDatapoint getDatapoint() {
+            return datapoint;
+        }
+
+        public ReadPriority getPriority() {
+            return priority;
+        }
+    }
+
+    /**
+     * Read queue statistics.
+     */
+    public static class Statistics {
+        public final long queued;
+        public final long coalesced;
+        public final long sent;
+        public final long averageLatencyMillis;
+        public final long maxLatencyMillis;
+
+        private Statistics(long queued, long coalesced, long sent, long averageLatencyMillis, long maxLatencyMillis) {
+            this.queued = queued;
+            this.coalesced = coalesced;
+            this.sent = sent;
+            this.averageLatencyMillis = averageLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "queued=" + queued + ", coalesced=" + coalesced + ", sent=" + sent + ", averageLatency="
+                    + averageLatencyMillis + "ms, maxLatency=" + maxLatencyMillis + "ms";
+        }
+    }
+}
@@ -25,6 +25,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.openhab.binding.knx.internal.KNXTypeMapper;
 import org.openhab.core.library.types.DateTimeType;
@@ -108,6 +111,15 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     /** stores the default KNX DPT to use for each openHAB type */
     private final Map<Class<? extends Type>, String> defaultDptMap;
 
+    /**
+     * pools of translators by DPT id. Translators hold the data they translate, so each one is only used by a single
+     * thread at a time, but creating them is expensive.
+     */
+    private final Map<String, Queue<DPTXlator>> translatorPool = new ConcurrentHashMap<>();
+
+    /** stores the (immutable) DPT by DPT id */
+    private final Map<String, DPT> dptCache = new ConcurrentHashMap<>();
+
     public KNXCoreTypeMapper() {
         @SuppressWarnings("unused")
         final List<Class<?>> xlators = Arrays.<Class<?>> asList(DPTXlator1BitControlled.class,
@@ -585,11 +597,16 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
             return null;
         }
 
-        try {
-            DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
-            dpt = translator.getType();
-        } catch (KNXException e) {
-            return null;
+        dpt = dptCache.get(dptID);
+        if (dpt == null) {
+            try {
+                DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
+                dpt = translator.getType();
+                dptCache.put(dptID, dpt);
+                releaseTranslator(dptID, translator);
+            } catch (KNXException e) {
+                return null;
+            }
         }
 
         try {
@@ -673,10 +690,9 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
+        DPTXlator translator = null;
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
-            translator.setData(data);
-            String value = translator.getValue();
+            translator = acquireTranslator(datapoint.getMainNumber(), datapoint.getDPT());
 
             String id = translator.getType().getID();
             logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
@@ -691,6 +707,16 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                 logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
                 return null;
             }
+
+            Type directType = decodeDirect(mainNumber, subNumber, id, data);
+            if (directType != null) {
+                return directType;
+            }
+
+            translator.setData(data);
+            // the string representation is only created when a type needs it
+            String value = null;
+
             /*
              * Following code section deals with specific mapping of values from KNX to openHAB types were the String
              * received from the DPTXlator is not sufficient to set the openHAB type or has bugs
@@ -708,7 +734,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                         case 19:
                             return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                         case 22:
-                            return DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+                            return new DecimalType(translatorBoolean.getValueBoolean() ? 1 : 0);
                         default:
                             return translatorBoolean.getValueBoolean() ? OnOffType.ON : OnOffType.OFF;
                     }
@@ -730,32 +756,10 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                         case 8:
                             return translator3BitControlled.getControlBit() ? UpDownType.DOWN : UpDownType.UP;
                     }
-                case 14:
-                    /*
-                     * FIXME: Workaround for a bug in Calimero / Openhab DPTXlator4ByteFloat.makeString(): is using a
-                     * locale when
-                     * translating a Float to String. It could happen the a ',' is used as separator, such as
-                     * 3,14159E20.
-                     * Openhab's DecimalType expects this to be in US format and expects '.': 3.14159E20.
-                     * There is no issue with DPTXlator2ByteFloat since calimero is using a non-localized translation
-                     * there.
-                     */
-                    DPTXlator4ByteFloat translator4ByteFloat = (DPTXlator4ByteFloat) translator;
-                    Float f = translator4ByteFloat.getValueFloat();
-                    if (Math.abs(f) < 100000) {
-                        value = String.valueOf(f);
-                    } else {
-                        NumberFormat dcf = NumberFormat.getInstance(Locale.US);
-                        if (dcf instanceof DecimalFormat) {
-                            ((DecimalFormat) dcf).applyPattern("0.#####E0");
-                        }
-                        value = dcf.format(f);
-                    }
-                    break;
                 case 18:
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     value = String.valueOf(decimalValue);
@@ -824,6 +828,9 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
             if (typeClass.equals(DecimalType.class)) {
                 return new DecimalType(translator.getNumericValue());
             }
+            if (value == null) {
+                value = mainNumber == 14 ? format4ByteFloat((DPTXlator4ByteFloat) translator) : translator.getValue();
+            }
             if (typeClass.equals(StringType.class)) {
                 return StringType.valueOf(value);
             }
@@ -855,11 +862,135 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                     datapoint.getDPT());
         } catch (KNXException e) {
             logger.warn("Failed creating a translator for datapoint type '{}'.", datapoint.getDPT(), e);
+        } finally {
+            if (translator != null) {
+                releaseTranslator(datapoint.getDPT(), translator);
+            }
         }
 
         return null;
     }
 
+    /**
+     * Decodes the most common datapoint types straight from the telegram data, without setting up a translator.
+     * Covers switches (1.x), 8 bit unsigned values (5.x), 2 byte floats (9.x) and 4 byte floats (14.x). Values that
+     * would not fit their openHAB type fall back to the translator, so errors are reported the same way.
+     *
+     * @param mainNumber the main number of the datapoint type
+     * @param subNumber the sub number of the datapoint type
+     * @param id the datapoint type id
+     * @param data the telegram data
+     * @return the type or {@code null} if the datapoint type has to be decoded by a translator
+     */
+    private Type decodeDirect(int mainNumber, int subNumber, String id, byte[] data) {
+        switch (mainNumber) {
+            case 1:
+                if (data.length != 1) {
+                    return null;
+                }
+                boolean bit = (data[0] & 0x01) != 0;
+                switch (subNumber) {
+                    case 8:
+                        return bit ? UpDownType.DOWN : UpDownType.UP;
+                    case 9:
+                    case 19:
+                        return bit ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    case 10:
+                        return bit ? StopMoveType.MOVE : StopMoveType.STOP;
+                    case 22:
+                        return new DecimalType(bit ? 1 : 0);
+                    default:
+                        return bit ? OnOffType.ON : OnOffType.OFF;
+                }
+            case 5:
+                if (data.length != 1) {
+                    return null;
+                }
+                int unsigned = data[0] & 0xff;
+                switch (subNumber) {
+                    case 1:
+                        // DPT_Scaling, same rounding as DPTXlator8BitUnsigned
+                        unsigned = Math.round(unsigned * 100.0f / 255);
+                        break;
+                    case 3:
+                        // DPT_Angle
+                        unsigned = Math.round(unsigned * 360.0f / 255);
+                        break;
+                }
+                Class<? extends Type> unsignedTypeClass = toTypeClass(id);
+                if (PercentType.class.equals(unsignedTypeClass) && unsigned <= 100) {
+                    return new PercentType(unsigned);
+                }
+                if (DecimalType.class.equals(unsignedTypeClass)) {
+                    return new DecimalType(unsigned);
+                }
+                return null;
+            case 9:
+                if (data.length != 2 || !DecimalType.class.equals(toTypeClass(id))) {
+                    return null;
+                }
+                // bits MEEEEMMM MMMMMMMM, value = 0.01 * M * 2^E with M in two's complement
+                int raw = ((data[0] & 0xff) << 8) | (data[1] & 0xff);
+                if (raw == 0x7fff) {
+                    // invalid data, leave the error handling to the translator
+                    return null;
+                }
+                int mantissa = raw & 0x07ff;
+                if ((raw & 0x8000) != 0) {
+                    mantissa -= 0x0800;
+                }
+                int exponent = (raw >> 11) & 0x0f;
+                return new DecimalType((1 << exponent) * mantissa * 0.01);
+            case 14:
+                if (data.length != 4 || !DecimalType.class.equals(toTypeClass(id))) {
+                    return null;
+                }
+                float f = Float.intBitsToFloat(((data[0] & 0xff) << 24) | ((data[1] & 0xff) << 16)
+                        | ((data[2] & 0xff) << 8) | (data[3] & 0xff));
+                if (Float.isNaN(f) || Float.isInfinite(f)) {
+                    return null;
+                }
+                return new DecimalType(f);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Formats the value of a 4 byte float translator.
+     *
+     * FIXME: Workaround for a bug in Calimero / Openhab DPTXlator4ByteFloat.makeString(): is using a locale when
+     * translating a Float to String. It could happen the a ',' is used as separator, such as 3,14159E20.
+     * Openhab's DecimalType expects this to be in US format and expects '.': 3.14159E20.
+     * There is no issue with DPTXlator2ByteFloat since calimero is using a non-localized translation there.
+     */
+    private String format4ByteFloat(DPTXlator4ByteFloat translator4ByteFloat) {
+        Float f = translator4ByteFloat.getValueFloat();
+        if (Math.abs(f) < 100000) {
+            return String.valueOf(f);
+        } else {
+            NumberFormat dcf = NumberFormat.getInstance(Locale.US);
+            if (dcf instanceof DecimalFormat) {
+                ((DecimalFormat) dcf).applyPattern("0.#####E0");
+            }
+            return dcf.format(f);
+        }
+    }
+
+    /**
+     * Takes a translator for the given datapoint type from the pool or creates a new one. It has to be given back by
+     * {@link #releaseTranslator(String, DPTXlator)} once it isn't used anymore.
+     */
+    private DPTXlator acquireTranslator(int mainNumber, String dptID) throws KNXException {
+        Queue<DPTXlator> translators = translatorPool.get(dptID);
+        DPTXlator translator = translators != null ? translators.poll() : null;
+        return translator != null ? translator : TranslatorTypes.createTranslator(mainNumber, dptID);
+    }
+
+    private void releaseTranslator(String dptID, DPTXlator translator) {
+        translatorPool.computeIfAbsent(dptID, id -> new ConcurrentLinkedQueue<>()).offer(translator);
+    }
+
     /**
      * Converts a datapoint type id into an openHAB type class
      *
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ReadRequestQueueTest {
+
+    @Test
+    public void testOffer_duplicatesAreMerged() {
+        ReadRequestQueue queue = new ReadRequestQueue();
+        assertTrue(queue.offer(read(1), ReadPriority.INITIAL));
+        assertFalse(queue.offer(read(1), ReadPriority.INITIAL));
+        assertTrue(queue.offer(read(2), ReadPriority.INITIAL));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void testPoll_highestPriorityFirst() {
+        ReadRequestQueue queue = new ReadRequestQueue();
+        queue.offer(read(1), ReadPriority.INITIAL);
+        queue.offer(read(2), ReadPriority.PERIODIC);
+        queue.offer(read(3), ReadPriority.INITIAL);
+        queue.offer(read(3), ReadPriority.REFRESH);
+
+        assertEquals(new GroupAddress(0, 0, 3), poll(queue));
+        assertEquals(new GroupAddress(0, 0, 2), poll(queue));
+        assertEquals(new GroupAddress(0, 0, 1), poll(queue));
+        assertNull(queue.poll());
+        assertEquals(3, queue.drainStatistics().sent);
+    }
+
+    private static GroupAddress poll(ReadRequestQueue queue) {
+        ReadRequestQueue.Entry entry = queue.poll();
+        assertNotNull(entry);
+        return entry.getDatapoint().getDatapoint().getMainAddress();
+    }
+
+    private static ReadDatapoint read(int address) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(0, 0, address), "test", 0, "1.001"), 3);
+    }
+}
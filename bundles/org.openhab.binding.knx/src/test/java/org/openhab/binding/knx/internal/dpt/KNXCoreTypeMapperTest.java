@@ -16,6 +16,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.UpDownType;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
 
 /**
  *
@@ -29,4 +36,59 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testToType_booleanDecodedFromTelegram() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(OnOffType.ON, mapper.toType(datapoint(1, "1.001"), new byte[] { 0x01 }));
+        assertEquals(OnOffType.OFF, mapper.toType(datapoint(1, "1.001"), new byte[] { 0x00 }));
+        assertEquals(UpDownType.DOWN, mapper.toType(datapoint(1, "1.008"), new byte[] { 0x01 }));
+        assertEquals(new DecimalType(1), mapper.toType(datapoint(1, "1.022"), new byte[] { 0x01 }));
+    }
+
+    @Test
+    public void testToType_4ByteFloatDecodedFromTelegram() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        // 0x40490fd0 is 3.14159f in IEEE 754
+        assertEquals(new DecimalType(3.14159f),
+                mapper.toType(datapoint(14, "14.019"), new byte[] { 0x40, 0x49, 0x0f, (byte) 0xd0 }));
+    }
+
+    @Test
+    public void testToType_8BitUnsignedDecodedFromTelegram() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(new PercentType(100), mapper.toType(datapoint(5, "5.001"), new byte[] { (byte) 0xff }));
+        assertEquals(new PercentType(50), mapper.toType(datapoint(5, "5.001"), new byte[] { (byte) 0x80 }));
+        assertEquals(new PercentType(0), mapper.toType(datapoint(5, "5.001"), new byte[] { 0x00 }));
+        assertEquals(new DecimalType(360), mapper.toType(datapoint(5, "5.003"), new byte[] { (byte) 0xff }));
+        assertEquals(new PercentType(42), mapper.toType(datapoint(5, "5.004"), new byte[] { 42 }));
+        assertEquals(new DecimalType(200), mapper.toType(datapoint(5, "5.010"), new byte[] { (byte) 0xc8 }));
+    }
+
+    @Test
+    public void testToType_2ByteFloatDecodedFromTelegram() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        // 0x0c1a is 21.0 and 0x8a24 is -30.0 in KNX 2 byte float
+        assertEquals(21.0, ((DecimalType) mapper.toType(datapoint(9, "9.001"), new byte[] { 0x0c, 0x1a }))
+                .doubleValue(), 0.001);
+        assertEquals(-30.0, ((DecimalType) mapper.toType(datapoint(9, "9.001"), new byte[] { (byte) 0x8a, 0x24 }))
+                .doubleValue(), 0.001);
+        // 0x07ff is the largest mantissa with exponent 0 and 0x87ff is -0.01
+        assertEquals(20.47, ((DecimalType) mapper.toType(datapoint(9, "9.001"), new byte[] { 0x07, (byte) 0xff }))
+                .doubleValue(), 0.001);
+        assertEquals(-0.01, ((DecimalType) mapper.toType(datapoint(9, "9.001"),
+                new byte[] { (byte) 0x87, (byte) 0xff })).doubleValue(), 0.0001);
+    }
+
+    @Test
+    public void testToType_pooledTranslatorIsReused() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(new DecimalType(21), mapper.toType(datapoint(7, "7.001"), new byte[] { 0x00, 0x15 }));
+        assertEquals(new DecimalType(65535),
+                mapper.toType(datapoint(7, "7.001"), new byte[] { (byte) 0xff, (byte) 0xff }));
+    }
+
+    private static Datapoint datapoint(int mainNumber, String dpt) {
+        return new CommandDP(new GroupAddress(0, 0, 1), "test", mainNumber, dpt);
+    }
 }
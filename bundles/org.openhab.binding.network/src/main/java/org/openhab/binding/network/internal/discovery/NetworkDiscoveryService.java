@@ -14,10 +14,16 @@ package org.openhab.binding.network.internal.discovery;
 
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -32,6 +38,7 @@ import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.utils.NetworkProber;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -58,6 +65,9 @@ import org.slf4j.LoggerFactory;
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final int PING_TIMEOUT_IN_MS = 500;
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    static final int MIN_TCP_PROBES_IN_FLIGHT = 32;
+    static final int INITIAL_TCP_PROBES_IN_FLIGHT = 256;
+    static final int MAX_TCP_PROBES_IN_FLIGHT = 2048;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -70,11 +80,29 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private @Nullable ExecutorService executorService = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
+    private final NetworkProber prober;
+
+    // TCP connection attempts of the running scan, which are multiplexed by the prober instead of using a thread each
+    private final Queue<InetSocketAddress> tcpProbeTargets = new ArrayDeque<>();
+    private int tcpProbesInFlight = 0;
+    private int tcpProbesLimit = INITIAL_TCP_PROBES_IN_FLIGHT;
+    private boolean tcpScanRunning = false;
+    private boolean presenceScanRunning = false;
+
+    // Services are only reported for hosts which don't answer pings, so they are held back until the ping is done
+    private final Set<String> pingReachableHosts = new HashSet<>();
+    private final Set<String> pingFinishedHosts = new HashSet<>();
+    private final Map<String, List<Integer>> pendingServices = new HashMap<>();
 
     public NetworkDiscoveryService() {
+        this(NetworkProber.getInstance());
+    }
+
+    NetworkDiscoveryService(NetworkProber prober) {
         super(SUPPORTED_THING_TYPES_UIDS, (int) Math.round(
                 new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size() * (PING_TIMEOUT_IN_MS / 1000.0)),
                 false);
+        this.prober = prober;
     }
 
     @Override
@@ -107,6 +135,9 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     public void partialDetectionResult(PresenceDetectionValue value) {
         final String ip = value.getHostAddress();
         if (value.isPingReachable()) {
+            synchronized (tcpProbeTargets) {
+                pingReachableHosts.add(ip);
+            }
             newPingDevice(ip);
         } else if (value.isTCPServiceReachable()) {
             List<Integer> tcpServices = value.getReachableTCPports();
@@ -137,6 +168,12 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
         scannedIPcount.set(0);
+        if (networkIPs.isEmpty()) {
+            stopScan();
+            return;
+        }
+
+        startTcpScan(networkIPs);
 
         for (String ip : networkIPs) {
             final PresenceDetection s = new PresenceDetection(this, 2000);
@@ -147,24 +184,155 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             // Ping devices
             s.setUseIcmpPing(true);
             s.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            s.setServicePorts(tcpServicePorts);
+            // TCP devices are probed separately, all at once
+            s.setServicePorts(Collections.emptySet());
 
             service.execute(() -> {
                 Thread.currentThread().setName("Discovery thread " + ip);
                 s.performPresenceDetection(true);
+                presenceDetectionFinished(ip);
                 int count = scannedIPcount.incrementAndGet();
                 if (count == networkIPs.size()) {
                     logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
+                    presenceScanFinished();
                 }
             });
         }
     }
 
+    /**
+     * Starts probing the TCP service ports of the given IPs. The presence detection of the same IPs is expected to
+     * run at the same time and to report back with {@link #presenceDetectionFinished(String)} and
+     * {@link #presenceScanFinished()}.
+     *
+     * @param ips the IPs to probe
+     */
+    void startTcpScan(Collection<String> ips) {
+        synchronized (tcpProbeTargets) {
+            tcpProbeTargets.clear();
+            pingReachableHosts.clear();
+            pingFinishedHosts.clear();
+            pendingServices.clear();
+            for (String ip : ips) {
+                for (Integer port : tcpServicePorts) {
+                    tcpProbeTargets.add(new InetSocketAddress(ip, port));
+                }
+            }
+            tcpScanRunning = !tcpProbeTargets.isEmpty();
+            presenceScanRunning = true;
+            startTcpProbes();
+        }
+    }
+
+    /**
+     * Reports the services held back for the given IP, unless the IP answered pings.
+     *
+     * @param ip the IP whose presence detection has finished
+     */
+    void presenceDetectionFinished(String ip) {
+        List<Integer> ports;
+        synchronized (tcpProbeTargets) {
+            pingFinishedHosts.add(ip);
+            ports = pendingServices.remove(ip);
+            if (ports == null || pingReachableHosts.contains(ip)) {
+                return;
+            }
+        }
+        for (int port : ports) {
+            newServiceDevice(ip, port);
+        }
+    }
+
+    /**
+     * Stops the scan once the presence detection of all IPs has finished, unless TCP probes are still running.
+     */
+    void presenceScanFinished() {
+        synchronized (tcpProbeTargets) {
+            presenceScanRunning = false;
+            if (tcpScanRunning) {
+                return;
+            }
+        }
+        stopScan();
+    }
+
+    int getTcpProbesLimit() {
+        synchronized (tcpProbeTargets) {
+            return tcpProbesLimit;
+        }
+    }
+
+    private void tcpServiceFound(String ip, int port) {
+        synchronized (tcpProbeTargets) {
+            if (!pingFinishedHosts.contains(ip)) {
+                pendingServices.computeIfAbsent(ip, key -> new ArrayList<>()).add(port);
+                return;
+            }
+            if (pingReachableHosts.contains(ip)) {
+                return;
+            }
+        }
+        newServiceDevice(ip, port);
+    }
+
+    /**
+     * Starts as many TCP connection attempts as the current limit allows. The limit grows with every attempt which
+     * finishes normally and is halved if attempts can't be started, e.g. because we are running out of sockets.
+     */
+    private void startTcpProbes() {
+        synchronized (tcpProbeTargets) {
+            while (tcpScanRunning && tcpProbesInFlight < tcpProbesLimit) {
+                InetSocketAddress target = tcpProbeTargets.poll();
+                if (target == null) {
+                    break;
+                }
+                tcpProbesInFlight++;
+                prober.tcpProbe(target, PING_TIMEOUT_IN_MS).whenCompleteAsync((result, exception) -> {
+                    if (result != null && result.isSuccess()) {
+                        tcpServiceFound(target.getAddress().getHostAddress(), target.getPort());
+                    }
+                    tcpProbeFinished(exception == null);
+                }, scheduler);
+            }
+        }
+    }
+
+    void tcpProbeFinished(boolean success) {
+        synchronized (tcpProbeTargets) {
+            tcpProbesInFlight--;
+            if (success) {
+                tcpProbesLimit = Math.min(MAX_TCP_PROBES_IN_FLIGHT, tcpProbesLimit + 1);
+            } else {
+                tcpProbesLimit = Math.max(MIN_TCP_PROBES_IN_FLIGHT, tcpProbesLimit / 2);
+            }
+            if (!tcpScanRunning) {
+                return;
+            }
+            if (!tcpProbeTargets.isEmpty()) {
+                startTcpProbes();
+                return;
+            }
+            if (tcpProbesInFlight > 0) {
+                return;
+            }
+            logger.trace("TCP scan finished");
+            tcpScanRunning = false;
+            if (presenceScanRunning) {
+                return;
+            }
+        }
+        stopScan();
+    }
+
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
+        synchronized (tcpProbeTargets) {
+            // probes in flight finish on their own, but no new ones are started
+            tcpProbeTargets.clear();
+            tcpScanRunning = false;
+            presenceScanRunning = false;
+        }
         final ExecutorService service = executorService;
         if (service == null) {
             return;
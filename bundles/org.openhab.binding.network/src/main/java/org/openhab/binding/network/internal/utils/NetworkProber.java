@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NetworkProber} is shared by all presence detections of the binding.
+ *
+ * TCP connection attempts are multiplexed over a single NIO selector thread which also handles all timeouts, instead
+ * of blocking a thread per connection attempt. Probes which have to fork an external tool (ping, arping) are
+ * coalesced: if the same probe is already running for another presence detection, its result is shared instead of
+ * starting another process.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NetworkProber {
+
+    private static final NetworkProber INSTANCE = new NetworkProber();
+
+    private final Logger logger = LoggerFactory.getLogger(NetworkProber.class);
+
+    private final Object lock = new Object();
+    private final Queue<TcpProbe> newProbes = new ConcurrentLinkedQueue<>();
+    // package-private for tests
+    final Map<String, CompletableFuture<Optional<PingResult>>> runningProbes = new ConcurrentHashMap<>();
+    private @Nullable Selector selector;
+    private @Nullable Thread selectorThread;
+
+    /**
+     * A probe which blocks until it has a result.
+     */
+    @FunctionalInterface
+    public interface BlockingProbe {
+        Optional<PingResult> probe() throws IOException, InterruptedException;
+    }
+
+    public static NetworkProber getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tries to establish a TCP connection to the given address. The connection is closed again as soon as it is
+     * established.
+     *
+     * @param address the address to connect to
+     * @param timeoutInMS the timeout in milliseconds
+     * @return the future ping result, completed exceptionally if the connection attempt could not be started
+     */
+    public CompletableFuture<PingResult> tcpProbe(InetSocketAddress address, int timeoutInMS) {
+        TcpProbe probe = new TcpProbe(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMS));
+        try {
+            if (address.isUnresolved()) {
+                throw new UnknownHostException(address.getHostString());
+            }
+            SocketChannel channel = SocketChannel.open();
+            probe.channel = channel;
+            channel.configureBlocking(false);
+            if (channel.connect(address)) {
+                probe.finish(true);
+                return probe.result;
+            }
+        } catch (IOException e) {
+            if (probe.channel == null) {
+                probe.result.completeExceptionally(e);
+            } else {
+                // connection refused, no route to host and the like
+                probe.finish(false);
+            }
+            return probe.result;
+        }
+
+        newProbes.add(probe);
+        synchronized (lock) {
+            Selector selector = this.selector;
+            if (selector != null) {
+                selector.wakeup();
+            } else {
+                try {
+                    this.selector = Selector.open();
+                } catch (IOException e) {
+                    newProbes.remove(probe);
+                    probe.result.completeExceptionally(e);
+                    probe.close();
+                    return probe.result;
+                }
+                Thread thread = new Thread(this::runSelector, "OH-binding-network-prober");
+                thread.setDaemon(true);
+                selectorThread = thread;
+                thread.start();
+            }
+        }
+        return probe.result;
+    }
+
+    /**
+     * Runs the given probe unless the same probe, identified by the given key, is already running. In that case the
+     * result of the running probe is returned as soon as it is available.
+     *
+     * @param key identifies the probe, e.g. the tool, interface and destination address
+     * @param probe the probe
+     * @return the probe result
+     * @throws IOException if the probe failed
+     * @throws InterruptedException if interrupted while waiting for the result
+     */
+    public Optional<PingResult> coalesce(String key, BlockingProbe probe) throws IOException, InterruptedException {
+        CompletableFuture<Optional<PingResult>> ownResult = new CompletableFuture<>();
+        CompletableFuture<Optional<PingResult>> runningResult = runningProbes.putIfAbsent(key, ownResult);
+        if (runningResult != null) {
+            logger.trace("Sharing the result of the running probe '{}'", key);
+            try {
+                return runningResult.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+        try {
+            Optional<PingResult> result = probe.probe();
+            ownResult.complete(result);
+            return result;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            ownResult.completeExceptionally(e);
+            throw e;
+        } finally {
+            runningProbes.remove(key, ownResult);
+        }
+    }
+
+    private void runSelector() {
+        // the pending probes by deadline, so expired ones are found without looking at all of them
+        PriorityQueue<TcpProbe> pendingProbes = new PriorityQueue<>(
+                (probe1, probe2) -> Long.compare(probe1.deadline - probe2.deadline, 0));
+        Selector selector = this.selector;
+        if (selector == null) {
+            return;
+        }
+        try {
+            while (true) {
+                TcpProbe newProbe;
+                while ((newProbe = newProbes.poll()) != null) {
+                    try {
+                        SocketChannel channel = newProbe.channel;
+                        if (channel != null) {
+                            channel.register(selector, SelectionKey.OP_CONNECT, newProbe);
+                            pendingProbes.add(newProbe);
+                        }
+                    } catch (IOException e) {
+                        newProbe.finish(false);
+                    }
+                }
+
+                long now = System.nanoTime();
+                long nextDeadline = Long.MAX_VALUE;
+                TcpProbe probe;
+                while ((probe = pendingProbes.peek()) != null) {
+                    if (probe.result.isDone()) {
+                        pendingProbes.poll();
+                    } else if (now - probe.deadline >= 0) {
+                        probe.finish(false);
+                        pendingProbes.poll();
+                    } else {
+                        nextDeadline = probe.deadline - now;
+                        break;
+                    }
+                }
+
+                if (pendingProbes.isEmpty()) {
+                    synchronized (lock) {
+                        if (newProbes.isEmpty()) {
+                            this.selector = null;
+                            selectorThread = null;
+                            selector.close();
+                            return;
+                        }
+                    }
+                    continue;
+                }
+
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline)));
+                for (Iterator<SelectionKey> iterator = selector.selectedKeys().iterator(); iterator.hasNext();) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    probe = (TcpProbe) key.attachment();
+                    SocketChannel channel = (SocketChannel) key.channel();
+                    boolean connected;
+                    try {
+                        connected = channel.finishConnect();
+                    } catch (IOException e) {
+                        connected = false;
+                    }
+                    if (connected || !channel.isConnectionPending()) {
+                        // finished probes stay in the pending queue until they are polled from it
+                        probe.finish(connected);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("The network prober stopped unexpectedly: {}", e.getMessage());
+            synchronized (lock) {
+                this.selector = null;
+                selectorThread = null;
+            }
+            pendingProbes.forEach(probe -> probe.finish(false));
+            TcpProbe probe;
+            while ((probe = newProbes.poll()) != null) {
+                probe.finish(false);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static class TcpProbe {
+        private final long startNanos = System.nanoTime();
+        private final long deadline;
+        private final CompletableFuture<PingResult> result = new CompletableFuture<>();
+        private @Nullable SocketChannel channel;
+
+        private TcpProbe(long deadline) {
+            this.deadline = deadline;
+        }
+
+        private void finish(boolean success) {
+            close();
+            result.complete(new PingResult(success, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        }
+
+        private void close() {
+            SocketChannel channel = this.channel;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
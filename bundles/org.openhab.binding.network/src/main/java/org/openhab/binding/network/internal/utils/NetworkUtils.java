@@ -15,25 +15,21 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
-import java.net.SocketAddress;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.time.Duration;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -57,6 +53,8 @@ public class NetworkUtils {
 
     private LatencyParser latencyParser = new LatencyParser();
 
+    private final NetworkProber prober = NetworkProber.getInstance();
+
     /**
      * Gets every IPv4 Address on each Interface except the loopback
      * The Address format is ip/subnet
@@ -157,14 +155,17 @@ public class NetworkUtils {
      * @throws IOException
      */
     public Optional<PingResult> servicePing(String host, int port, int timeout) throws IOException {
-        double execStartTimeInMS = System.currentTimeMillis();
-
-        SocketAddress socketAddress = new InetSocketAddress(host, port);
-        try (Socket socket = new Socket()) {
-            socket.connect(socketAddress, timeout);
-            return Optional.of(new PingResult(true, System.currentTimeMillis() - execStartTimeInMS));
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException ignored) {
-            return Optional.of(new PingResult(false, System.currentTimeMillis() - execStartTimeInMS));
+        try {
+            return Optional.of(prober.tcpProbe(new InetSocketAddress(host, port), timeout).get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Reset interrupt flag
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
         }
     }
 
@@ -235,12 +236,19 @@ public class NetworkUtils {
      */
     public Optional<PingResult> nativePing(@Nullable IpPingMethodEnum method, String hostname, int timeoutInMS)
             throws IOException, InterruptedException {
+        if (method == null || method == IpPingMethodEnum.JAVA_PING) {
+            return Optional.empty();
+        }
+        // several things may check the same host at the same time, they share a single ping process
+        return prober.coalesce("ping " + method + " " + hostname + " " + timeoutInMS,
+                () -> runNativePing(method, hostname, timeoutInMS));
+    }
+
+    private Optional<PingResult> runNativePing(IpPingMethodEnum method, String hostname, int timeoutInMS)
+            throws IOException, InterruptedException {
         double execStartTimeInMS = System.currentTimeMillis();
 
         Process proc;
-        if (method == null) {
-            return Optional.empty();
-        }
         // Yes, all supported operating systems have their own ping utility with a different command line
         switch (method) {
             case IPUTILS_LINUX_PING:
@@ -315,11 +323,17 @@ public class NetworkUtils {
      */
     public Optional<PingResult> nativeARPPing(@Nullable ArpPingUtilEnum arpingTool, @Nullable String arpUtilPath,
             String interfaceName, String ipV4address, int timeoutInMS) throws IOException, InterruptedException {
-        double execStartTimeInMS = System.currentTimeMillis();
-
         if (arpUtilPath == null || arpingTool == null || arpingTool == ArpPingUtilEnum.UNKNOWN_TOOL) {
             return Optional.empty();
         }
+        return prober.coalesce("arping " + arpingTool + " " + interfaceName + " " + ipV4address + " " + timeoutInMS,
+                () -> runNativeARPPing(arpingTool, arpUtilPath, interfaceName, ipV4address, timeoutInMS));
+    }
+
+    private Optional<PingResult> runNativeARPPing(ArpPingUtilEnum arpingTool, String arpUtilPath, String interfaceName,
+            String ipV4address, int timeoutInMS) throws IOException, InterruptedException {
+        double execStartTimeInMS = System.currentTimeMillis();
+
         Process proc;
         if (arpingTool == ArpPingUtilEnum.THOMAS_HABERT_ARPING_WITHOUT_TIMEOUT) {
             proc = new ProcessBuilder(arpUtilPath, "-c", "1", "-i", interfaceName, ipV4address).start();
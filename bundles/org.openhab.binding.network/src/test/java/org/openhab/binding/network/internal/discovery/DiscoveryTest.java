@@ -17,7 +17,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,8 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.network.internal.NetworkBindingConstants;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.utils.NetworkProber;
+import org.openhab.binding.network.internal.utils.PingResult;
 import org.openhab.core.config.discovery.DiscoveryListener;
 import org.openhab.core.config.discovery.DiscoveryResult;
 
@@ -44,6 +50,9 @@ public class DiscoveryTest {
 
     private @Mock PresenceDetectionValue value;
     private @Mock DiscoveryListener listener;
+    private @Mock NetworkProber prober;
+
+    private final List<CompletableFuture<PingResult>> tcpProbes = new ArrayList<>();
 
     @BeforeEach
     public void setUp() {
@@ -51,6 +60,13 @@ public class DiscoveryTest {
         when(value.getLowestLatency()).thenReturn(10.0);
         when(value.isReachable()).thenReturn(true);
         when(value.getSuccessfulDetectionTypes()).thenReturn("TESTMETHOD");
+        when(prober.tcpProbe(any(InetSocketAddress.class), anyInt())).then(invocation -> {
+            CompletableFuture<PingResult> probe = new CompletableFuture<>();
+            synchronized (tcpProbes) {
+                tcpProbes.add(probe);
+            }
+            return probe;
+        });
     }
 
     @Test
@@ -88,4 +104,126 @@ public class DiscoveryTest {
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_HOSTNAME), is(ip));
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_PORT), is(1010));
     }
+
+    @Test
+    public void tcpProbesLimitAdapts() {
+        NetworkDiscoveryService d = new NetworkDiscoveryService(prober);
+        List<String> ips = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            ips.add("127.0.0." + i);
+        }
+
+        d.startTcpScan(ips);
+        verify(prober, times(NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT)).tcpProbe(any(), anyInt());
+
+        // a finished probe raises the limit by one, so two new probes are started
+        tcpProbe(0).complete(new PingResult(false, 1));
+        verify(prober, timeout(5000).times(NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT + 2))
+                .tcpProbe(any(), anyInt());
+        assertThat(d.getTcpProbesLimit(), is(NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT + 1));
+
+        // a probe which can't be started halves the limit, so no new probes are started until enough have finished
+        tcpProbe(1).completeExceptionally(new IllegalStateException("no more sockets"));
+        waitForLimit(d, (NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT + 1) / 2);
+        verify(prober, times(NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT + 2)).tcpProbe(any(), anyInt());
+
+        d.stopScan();
+    }
+
+    @Test
+    public void tcpScanFinishedAfterPresenceScanStopsScan() {
+        NetworkDiscoveryService d = spy(new NetworkDiscoveryService(prober));
+
+        d.startTcpScan(Collections.singletonList(ip));
+        d.presenceDetectionFinished(ip);
+        d.presenceScanFinished();
+        verify(d, never()).stopScan();
+
+        completeAllTcpProbes(false);
+        verify(d, timeout(5000)).stopScan();
+    }
+
+    @Test
+    public void presenceScanFinishedAfterTcpScanStopsScan() {
+        NetworkDiscoveryService d = spy(new NetworkDiscoveryService(prober));
+
+        d.startTcpScan(Collections.singletonList(ip));
+        completeAllTcpProbes(false);
+        verify(d, timeout(5000).times(4)).tcpProbeFinished(anyBoolean());
+        verify(d, never()).stopScan();
+
+        d.presenceDetectionFinished(ip);
+        d.presenceScanFinished();
+        verify(d).stopScan();
+    }
+
+    @Test
+    public void stopScanDoesNotStartNewTcpProbes() {
+        NetworkDiscoveryService d = spy(new NetworkDiscoveryService(prober));
+        List<String> ips = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            ips.add("127.0.0." + i);
+        }
+
+        d.startTcpScan(ips);
+        d.stopScan();
+        completeAllTcpProbes(false);
+        verify(d, timeout(5000).times(NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT))
+                .tcpProbeFinished(anyBoolean());
+
+        // the probes in flight finish without starting new ones or stopping the scan again
+        verify(prober, times(NetworkDiscoveryService.INITIAL_TCP_PROBES_IN_FLIGHT)).tcpProbe(any(), anyInt());
+        verify(d, times(1)).stopScan();
+    }
+
+    @Test
+    public void tcpServiceOnlyReportedWithoutPing() {
+        NetworkDiscoveryService d = spy(new NetworkDiscoveryService(prober));
+        d.addDiscoveryListener(listener);
+        String otherIp = "127.0.0.2";
+
+        d.startTcpScan(List.of(ip, otherIp));
+        completeAllTcpProbes(true);
+        verify(d, timeout(5000).times(8)).tcpProbeFinished(anyBoolean());
+
+        // the ping results are not known yet, so the services are held back
+        verify(listener, never()).thingDiscovered(any(), any());
+
+        // ip answers pings, otherIp doesn't
+        when(value.isPingReachable()).thenReturn(true);
+        d.partialDetectionResult(value);
+        d.presenceDetectionFinished(ip);
+        d.presenceDetectionFinished(otherIp);
+
+        ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
+        verify(listener, times(5)).thingDiscovered(any(), result.capture());
+        assertThat(result.getAllValues().get(0).getThingUID(), is(NetworkDiscoveryService.createPingUID(ip)));
+        for (DiscoveryResult dresult : result.getAllValues().subList(1, 5)) {
+            assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_HOSTNAME), is(otherIp));
+        }
+
+        d.stopScan();
+    }
+
+    private CompletableFuture<PingResult> tcpProbe(int index) {
+        synchronized (tcpProbes) {
+            return tcpProbes.get(index);
+        }
+    }
+
+    private void completeAllTcpProbes(boolean success) {
+        List<CompletableFuture<PingResult>> probes;
+        synchronized (tcpProbes) {
+            probes = new ArrayList<>(tcpProbes);
+        }
+        probes.forEach(probe -> probe.complete(new PingResult(success, 1)));
+    }
+
+    private void waitForLimit(NetworkDiscoveryService d, int limit) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (d.getTcpProbesLimit() != limit && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(d.getTcpProbesLimit(), is(limit));
+    }
 }
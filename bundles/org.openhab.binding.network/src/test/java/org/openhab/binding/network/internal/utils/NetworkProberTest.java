@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the shared prober for TCP connection attempts and coalesced probes.
+ *
+ * @author agent - Initial contribution
+ */
+public class NetworkProberTest {
+
+    private final NetworkProber prober = NetworkProber.getInstance();
+
+    @Test
+    public void tcpProbeOpenPortTest() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            PingResult result = prober
+                    .tcpProbe(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()), 2000)
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void tcpProbeClosedPortTest() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        PingResult result = prober.tcpProbe(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 2000)
+                .get(5, TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void coalesceSharesRunningProbeTest() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Optional<PingResult>> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return prober.coalesce("test", () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    release.await();
+                    return Optional.of(new PingResult(true, 1));
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<PingResult>> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return prober.coalesce("test", () -> {
+                    executions.incrementAndGet();
+                    return Optional.of(new PingResult(false, 1));
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        // the second caller waits on the result of the running probe
+        CompletableFuture<Optional<PingResult>> running = prober.runningProbes.get("test");
+        assertNotNull(running);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (running.getNumberOfDependents() == 0 && !second.isDone() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, running.getNumberOfDependents());
+        release.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS).get().isSuccess());
+        assertTrue(second.get(5, TimeUnit.SECONDS).get().isSuccess());
+        assertEquals(1, executions.get());
+    }
+}
@@ -17,11 +17,13 @@ import java.io.StringReader;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -83,6 +85,46 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * Readers are expensive to create, so every thread keeps one for reuse. A parse that starts while the reader of the
+     * thread is in use (e.g. the resource meta data embedded in an entry) uses a new reader.
+     */
+    private static final ThreadLocal<@Nullable XMLReader> READERS = new ThreadLocal<>();
+
+    /**
+     * Zone players all receive the same zone group topology, so the groups parsed from the most recent topology are
+     * kept for the other players.
+     */
+    private static volatile @Nullable ZoneGroupCacheEntry zoneGroupCache;
+
+    private static class ZoneGroupCacheEntry {
+        private final String xml;
+        private final List<SonosZoneGroup> groups;
+
+        private ZoneGroupCacheEntry(String xml, List<SonosZoneGroup> groups) {
+            this.xml = xml;
+            this.groups = groups;
+        }
+    }
+
+    private static void parse(InputSource source, DefaultHandler handler) throws IOException, SAXException {
+        XMLReader reader = READERS.get();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+            reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } else {
+            READERS.remove();
+        }
+        try {
+            reader.setContentHandler(handler);
+            reader.parse(source);
+        } finally {
+            // don't keep the handler and its results referenced
+            reader.setContentHandler(null);
+            READERS.set(reader);
+        }
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -92,9 +134,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -112,9 +152,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
@@ -133,12 +171,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
-        reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Resource MetaData from String '{}'", xml);
         } catch (SAXException s) {
@@ -155,11 +190,17 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
+        ZoneGroupCacheEntry cacheEntry = zoneGroupCache;
+        if (cacheEntry != null && cacheEntry.xml.equals(xml)) {
+            return cacheEntry.groups;
+        }
+
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
+            List<SonosZoneGroup> groups = Collections.unmodifiableList(handler.getGroups());
+            zoneGroupCache = new ZoneGroupCacheEntry(xml, groups);
+            return groups;
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
@@ -173,9 +214,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse RadioTime from string '{}'", xml);
@@ -187,41 +226,59 @@ public class SonosXMLParser {
     }
 
     public static Map<String, String> getRenderingControlFromXML(String xml) {
-        RenderingControlEventHandler handler = new RenderingControlEventHandler();
+        Map<String, String> changes = new HashMap<>();
+        parseRenderingControlEvent(xml, changes::put);
+        return changes;
+    }
+
+    /**
+     * Parses the LastChange event of the RenderingControl service in a single pass and passes each changed variable
+     * and its value to the given consumer.
+     *
+     * @param xml the LastChange value
+     * @param consumer the consumer of the variable and value pairs
+     */
+    public static void parseRenderingControlEvent(String xml, BiConsumer<String, String> consumer) {
+        RenderingControlEventHandler handler = new RenderingControlEventHandler(consumer);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
         } catch (SAXException s) {
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
         }
-        return handler.getChanges();
     }
 
     public static Map<String, String> getAVTransportFromXML(String xml) {
-        AVTransportEventHandler handler = new AVTransportEventHandler();
+        Map<String, String> changes = new HashMap<>();
+        parseAVTransportEvent(xml, changes::put);
+        return changes;
+    }
+
+    /**
+     * Parses the LastChange event of the AVTransport service in a single pass and passes each changed variable and its
+     * value to the given consumer.
+     *
+     * @param xml the LastChange value
+     * @param consumer the consumer of the variable and value pairs
+     */
+    public static void parseAVTransportEvent(String xml, BiConsumer<String, String> consumer) {
+        AVTransportEventHandler handler = new AVTransportEventHandler(consumer);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
         } catch (SAXException s) {
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
         }
-        return handler.getChanges();
     }
 
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse MetaData from string '{}'", xml);
@@ -235,9 +292,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse music services from string '{}'", xml);
@@ -557,6 +612,8 @@ public class SonosXMLParser {
 
     private static class ZoneGroupHandler extends DefaultHandler {
 
+        private static final Pattern HOME_THEATER_MEMBER_PATTERN = Pattern.compile("(RINCON_\\w+)");
+
         private final List<SonosZoneGroup> groups = new ArrayList<>();
         private final List<String> currentGroupPlayers = new ArrayList<>();
         private final List<String> currentGroupPlayerZones = new ArrayList<>();
@@ -598,7 +655,7 @@ public class SonosXMLParser {
 
         private Set<String> getAllHomeTheaterMembers(String homeTheaterDescription) {
             Set<String> homeTheaterMembers = new HashSet<>();
-            Matcher matcher = Pattern.compile("(RINCON_\\w+)").matcher(homeTheaterDescription);
+            Matcher matcher = HOME_THEATER_MEMBER_PATTERN.matcher(homeTheaterDescription);
             while (matcher.find()) {
                 String member = matcher.group();
                 homeTheaterMembers.add(member);
@@ -713,7 +770,11 @@ public class SonosXMLParser {
          * </Event>
          */
 
-        private final Map<String, String> changes = new HashMap<>();
+        private final BiConsumer<String, String> consumer;
+
+        AVTransportEventHandler(BiConsumer<String, String> consumer) {
+            this.consumer = consumer;
+        }
 
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
@@ -728,14 +789,10 @@ public class SonosXMLParser {
             } else {
                 String val = attributes == null ? null : attributes.getValue("val");
                 if (val != null) {
-                    changes.put(localName, val);
+                    consumer.accept(localName, val);
                 }
             }
         }
-
-        public Map<String, String> getChanges() {
-            return changes;
-        }
     }
 
     private static class MetaDataHandler extends DefaultHandler {
@@ -843,11 +900,15 @@ public class SonosXMLParser {
 
     private static class RenderingControlEventHandler extends DefaultHandler {
 
-        private final Map<String, String> changes = new HashMap<>();
+        private final BiConsumer<String, String> consumer;
 
         private boolean getPresetName = false;
         private @Nullable String presetName;
 
+        RenderingControlEventHandler(BiConsumer<String, String> consumer) {
+            this.consumer = consumer;
+        }
+
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
                 @Nullable Attributes attributes) throws SAXException {
@@ -863,7 +924,7 @@ public class SonosXMLParser {
                     channel = attributes == null ? null : attributes.getValue("channel");
                     val = attributes == null ? null : attributes.getValue("val");
                     if (channel != null && val != null) {
-                        changes.put(qName + channel, val);
+                        consumer.accept(qName + channel, val);
                     }
                     break;
                 case "Bass":
@@ -880,7 +941,7 @@ public class SonosXMLParser {
                 case "HeightChannelLevel":
                     val = attributes == null ? null : attributes.getValue("val");
                     if (val != null) {
-                        changes.put(qName, val);
+                        consumer.accept(qName, val);
                     }
                     break;
                 case "PresetNameList":
@@ -905,14 +966,10 @@ public class SonosXMLParser {
                 getPresetName = false;
                 String preset = presetName;
                 if (qName != null && preset != null) {
-                    changes.put(qName, preset);
+                    consumer.accept(qName, preset);
                 }
             }
         }
-
-        public Map<String, String> getChanges() {
-            return changes;
-        }
     }
 
     private static class MusicServiceHandler extends DefaultHandler {
@@ -937,10 +994,8 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), roomNameHandler);
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -976,10 +1031,8 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), modelNameHandler);
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
@@ -14,6 +14,7 @@ package org.openhab.binding.sonos.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,7 +29,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class SonosZoneGroup {
 
     private final List<String> members;
-    private List<String> memberZoneNames;
+    private final List<String> memberZoneNames;
     private final String coordinator;
     private final String id;
 
@@ -44,11 +45,11 @@ public class SonosZoneGroup {
     }
 
     public List<String> getMembers() {
-        return members;
+        return Collections.unmodifiableList(members);
     }
 
     public List<String> getMemberZoneNames() {
-        return memberZoneNames;
+        return Collections.unmodifiableList(memberZoneNames);
     }
 
     public String getCoordinator() {
@@ -480,234 +480,243 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             logger.trace("Received pair '{}':'{}' (service '{}') for thing '{}'",
                     new Object[] { variable, value, service, this.getThing().getUID() });
 
-            String oldValue = this.stateMap.get(variable);
-            if (shouldIgnoreVariableUpdate(variable, value, oldValue)) {
-                return;
-            }
+            processValue(variable, value, service);
+        }
+    }
 
-            this.stateMap.put(variable, value);
+    private void processValue(String variable, String value, String service) {
+        String oldValue = this.stateMap.get(variable);
+        if (shouldIgnoreVariableUpdate(variable, value, oldValue)) {
+            return;
+        }
 
-            // pre-process some variables, eg XML processing
-            if (SERVICE_AV_TRANSPORT.equals(service) && "LastChange".equals(variable)) {
-                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value);
-                parsedValues.forEach((variable1, value1) -> {
-                    // Update the transport state after the update of the media information
-                    // to not break the notification mechanism
-                    if (!"TransportState".equals(variable1)) {
-                        onValueReceived(variable1, value1, service);
-                    }
-                    // Translate AVTransportURI/AVTransportURIMetaData to CurrentURI/CurrentURIMetaData
-                    // for a compatibility with the result of the action GetMediaInfo
-                    if ("AVTransportURI".equals(variable1)) {
-                        onValueReceived("CurrentURI", value1, service);
-                    } else if ("AVTransportURIMetaData".equals(variable1)) {
-                        onValueReceived("CurrentURIMetaData", value1, service);
-                    }
-                });
-                updateMediaInformation();
-                if (parsedValues.get("TransportState") != null) {
-                    onValueReceived("TransportState", parsedValues.get("TransportState"), service);
-                }
-            }
+        this.stateMap.put(variable, value);
 
-            if (SERVICE_RENDERING_CONTROL.equals(service) && "LastChange".equals(variable)) {
-                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value);
-                parsedValues.forEach((variable1, value1) -> {
-                    onValueReceived(variable1, value1, service);
-                });
-            }
+        // pre-process some variables, eg XML processing
+        if (SERVICE_AV_TRANSPORT.equals(service) && "LastChange".equals(variable)) {
+            processAVTransportEvent(value, service);
+        }
 
-            List<StateOption> options = new ArrayList<>();
+        if (SERVICE_RENDERING_CONTROL.equals(service) && "LastChange".equals(variable)) {
+            SonosXMLParser.parseRenderingControlEvent(value,
+                    (changedVariable, changedValue) -> processValue(changedVariable, changedValue, service));
+        }
 
-            // update the appropriate channel
-            switch (variable) {
-                case "TransportState":
-                    updateChannel(STATE);
-                    updateChannel(CONTROL);
-                    updateChannel(STOP);
-                    dispatchOnAllGroupMembers(variable, value, service);
-                    break;
-                case "CurrentPlayMode":
-                    updateChannel(SHUFFLE);
-                    updateChannel(REPEAT);
-                    dispatchOnAllGroupMembers(variable, value, service);
-                    break;
-                case "CurrentLEDState":
-                    updateChannel(LED);
-                    break;
-                case "ZoneName":
-                    updateState(ZONENAME, new StringType(value));
-                    break;
-                case "CurrentZoneName":
-                    updateChannel(ZONENAME);
-                    break;
-                case "ZoneGroupState":
-                    updateChannel(COORDINATOR);
-                    // Update coordinator after a change is made to the grouping of Sonos players
-                    updateGroupCoordinator();
-                    updateMediaInformation();
-                    // Update state and control channels for the group members with the coordinator values
-                    String transportState = getTransportState();
-                    if (transportState != null) {
-                        dispatchOnAllGroupMembers("TransportState", transportState, SERVICE_AV_TRANSPORT);
-                    }
-                    // Update shuffle and repeat channels for the group members with the coordinator values
-                    String playMode = getPlayMode();
-                    if (playMode != null) {
-                        dispatchOnAllGroupMembers("CurrentPlayMode", playMode, SERVICE_AV_TRANSPORT);
-                    }
-                    break;
-                case "LocalGroupUUID":
-                    updateChannel(ZONEGROUPID);
-                    break;
-                case "GroupCoordinatorIsLocal":
-                    updateChannel(LOCALCOORDINATOR);
-                    break;
-                case "VolumeMaster":
-                    updateChannel(VOLUME);
-                    break;
-                case "MuteMaster":
-                    updateChannel(MUTE);
-                    break;
-                case "Bass":
-                    updateChannel(BASS);
-                    break;
-                case "Treble":
-                    updateChannel(TREBLE);
-                    break;
-                case "LoudnessMaster":
-                    updateChannel(LOUDNESS);
-                    break;
-                case "OutputFixed":
-                    updateChannel(BASS);
-                    updateChannel(TREBLE);
-                    updateChannel(LOUDNESS);
-                    break;
-                case "SubEnabled":
-                    updateChannel(SUBWOOFER);
-                    break;
-                case "SubGain":
-                    updateChannel(SUBWOOFERGAIN);
-                    break;
-                case "SurroundEnabled":
-                    updateChannel(SURROUND);
-                    break;
-                case "SurroundMode":
-                    updateChannel(SURROUNDMUSICMODE);
-                    break;
-                case "SurroundLevel":
-                    updateChannel(SURROUNDTVLEVEL);
-                    break;
-                case "MusicSurroundLevel":
-                    updateChannel(SURROUNDMUSICLEVEL);
-                    break;
-                case "HeightChannelLevel":
-                    updateChannel(HEIGHTLEVEL);
-                    break;
-                case "NightMode":
-                    updateChannel(NIGHTMODE);
-                    break;
-                case "DialogLevel":
-                    updateChannel(SPEECHENHANCEMENT);
-                    break;
-                case LINEINCONNECTED:
-                    if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
-                        updateChannel(LINEIN);
-                    }
-                    if (SonosBindingConstants.WITH_ANALOG_LINEIN_THING_TYPES_UIDS
-                            .contains(getThing().getThingTypeUID())) {
-                        updateChannel(ANALOGLINEIN);
-                    }
-                    break;
-                case TOSLINEINCONNECTED:
-                    if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
-                        updateChannel(LINEIN);
-                    }
-                    if (SonosBindingConstants.WITH_DIGITAL_LINEIN_THING_TYPES_UIDS
-                            .contains(getThing().getThingTypeUID())) {
-                        updateChannel(DIGITALLINEIN);
-                    }
-                    break;
-                case "AlarmRunning":
-                    updateChannel(ALARMRUNNING);
-                    updateRunningAlarmProperties();
-                    break;
-                case "RunningAlarmProperties":
-                    updateChannel(ALARMPROPERTIES);
-                    break;
-                case "CurrentURIFormatted":
-                    updateChannel(CURRENTTRACK);
-                    break;
-                case "CurrentTitle":
-                    updateChannel(CURRENTTITLE);
-                    break;
-                case "CurrentArtist":
-                    updateChannel(CURRENTARTIST);
-                    break;
-                case "CurrentAlbum":
-                    updateChannel(CURRENTALBUM);
-                    break;
-                case "CurrentURI":
-                    updateChannel(CURRENTTRANSPORTURI);
-                    break;
-                case "CurrentTrackURI":
-                    updateChannel(CURRENTTRACKURI);
-                    break;
-                case "CurrentAlbumArtURI":
-                    updateChannel(CURRENTALBUMARTURL);
-                    break;
-                case "CurrentSleepTimerGeneration":
-                    if ("0".equals(value)) {
-                        updateState(SLEEPTIMER, new DecimalType(0));
-                    }
-                    break;
-                case "SleepTimerGeneration":
-                    if ("0".equals(value)) {
-                        updateState(SLEEPTIMER, new DecimalType(0));
-                    } else {
-                        updateSleepTimerDuration();
-                    }
-                    break;
-                case "RemainingSleepTimerDuration":
-                    updateState(SLEEPTIMER, new DecimalType(sleepStrTimeToSeconds(value)));
-                    break;
-                case "CurrentTuneInStationId":
-                    updateChannel(TUNEINSTATIONID);
-                    break;
-                case "SavedQueuesUpdateID": // service ContentDirectoy
-                    for (SonosEntry entry : getPlayLists()) {
-                        options.add(new StateOption(entry.getTitle(), entry.getTitle()));
-                    }
-                    stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), PLAYLIST), options);
-                    break;
-                case "FavoritesUpdateID": // service ContentDirectoy
-                    for (SonosEntry entry : getFavorites()) {
+        List<StateOption> options = new ArrayList<>();
+
+        // update the appropriate channel
+        switch (variable) {
+            case "TransportState":
+                updateChannel(STATE);
+                updateChannel(CONTROL);
+                updateChannel(STOP);
+                dispatchOnAllGroupMembers(variable, value, service);
+                break;
+            case "CurrentPlayMode":
+                updateChannel(SHUFFLE);
+                updateChannel(REPEAT);
+                dispatchOnAllGroupMembers(variable, value, service);
+                break;
+            case "CurrentLEDState":
+                updateChannel(LED);
+                break;
+            case "ZoneName":
+                updateState(ZONENAME, new StringType(value));
+                break;
+            case "CurrentZoneName":
+                updateChannel(ZONENAME);
+                break;
+            case "ZoneGroupState":
+                updateChannel(COORDINATOR);
+                // Update coordinator after a change is made to the grouping of Sonos players
+                updateGroupCoordinator();
+                updateMediaInformation();
+                // Update state and control channels for the group members with the coordinator values
+                String transportState = getTransportState();
+                if (transportState != null) {
+                    dispatchOnAllGroupMembers("TransportState", transportState, SERVICE_AV_TRANSPORT);
+                }
+                // Update shuffle and repeat channels for the group members with the coordinator values
+                String playMode = getPlayMode();
+                if (playMode != null) {
+                    dispatchOnAllGroupMembers("CurrentPlayMode", playMode, SERVICE_AV_TRANSPORT);
+                }
+                break;
+            case "LocalGroupUUID":
+                updateChannel(ZONEGROUPID);
+                break;
+            case "GroupCoordinatorIsLocal":
+                updateChannel(LOCALCOORDINATOR);
+                break;
+            case "VolumeMaster":
+                updateChannel(VOLUME);
+                break;
+            case "MuteMaster":
+                updateChannel(MUTE);
+                break;
+            case "Bass":
+                updateChannel(BASS);
+                break;
+            case "Treble":
+                updateChannel(TREBLE);
+                break;
+            case "LoudnessMaster":
+                updateChannel(LOUDNESS);
+                break;
+            case "OutputFixed":
+                updateChannel(BASS);
+                updateChannel(TREBLE);
+                updateChannel(LOUDNESS);
+                break;
+            case "SubEnabled":
+                updateChannel(SUBWOOFER);
+                break;
+            case "SubGain":
+                updateChannel(SUBWOOFERGAIN);
+                break;
+            case "SurroundEnabled":
+                updateChannel(SURROUND);
+                break;
+            case "SurroundMode":
+                updateChannel(SURROUNDMUSICMODE);
+                break;
+            case "SurroundLevel":
+                updateChannel(SURROUNDTVLEVEL);
+                break;
+            case "MusicSurroundLevel":
+                updateChannel(SURROUNDMUSICLEVEL);
+                break;
+            case "HeightChannelLevel":
+                updateChannel(HEIGHTLEVEL);
+                break;
+            case "NightMode":
+                updateChannel(NIGHTMODE);
+                break;
+            case "DialogLevel":
+                updateChannel(SPEECHENHANCEMENT);
+                break;
+            case LINEINCONNECTED:
+                if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
+                    updateChannel(LINEIN);
+                }
+                if (SonosBindingConstants.WITH_ANALOG_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
+                    updateChannel(ANALOGLINEIN);
+                }
+                break;
+            case TOSLINEINCONNECTED:
+                if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
+                    updateChannel(LINEIN);
+                }
+                if (SonosBindingConstants.WITH_DIGITAL_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
+                    updateChannel(DIGITALLINEIN);
+                }
+                break;
+            case "AlarmRunning":
+                updateChannel(ALARMRUNNING);
+                updateRunningAlarmProperties();
+                break;
+            case "RunningAlarmProperties":
+                updateChannel(ALARMPROPERTIES);
+                break;
+            case "CurrentURIFormatted":
+                updateChannel(CURRENTTRACK);
+                break;
+            case "CurrentTitle":
+                updateChannel(CURRENTTITLE);
+                break;
+            case "CurrentArtist":
+                updateChannel(CURRENTARTIST);
+                break;
+            case "CurrentAlbum":
+                updateChannel(CURRENTALBUM);
+                break;
+            case "CurrentURI":
+                updateChannel(CURRENTTRANSPORTURI);
+                break;
+            case "CurrentTrackURI":
+                updateChannel(CURRENTTRACKURI);
+                break;
+            case "CurrentAlbumArtURI":
+                updateChannel(CURRENTALBUMARTURL);
+                break;
+            case "CurrentSleepTimerGeneration":
+                if ("0".equals(value)) {
+                    updateState(SLEEPTIMER, new DecimalType(0));
+                }
+                break;
+            case "SleepTimerGeneration":
+                if ("0".equals(value)) {
+                    updateState(SLEEPTIMER, new DecimalType(0));
+                } else {
+                    updateSleepTimerDuration();
+                }
+                break;
+            case "RemainingSleepTimerDuration":
+                updateState(SLEEPTIMER, new DecimalType(sleepStrTimeToSeconds(value)));
+                break;
+            case "CurrentTuneInStationId":
+                updateChannel(TUNEINSTATIONID);
+                break;
+            case "SavedQueuesUpdateID": // service ContentDirectoy
+                for (SonosEntry entry : getPlayLists()) {
+                    options.add(new StateOption(entry.getTitle(), entry.getTitle()));
+                }
+                stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), PLAYLIST), options);
+                break;
+            case "FavoritesUpdateID": // service ContentDirectoy
+                for (SonosEntry entry : getFavorites()) {
+                    options.add(new StateOption(entry.getTitle(), entry.getTitle()));
+                }
+                stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), FAVORITE), options);
+                break;
+            // For favorite radios, we should have checked the state variable named RadioFavoritesUpdateID
+            // Due to a bug in the data type definition of this state variable, it is not set.
+            // As a workaround, we check the state variable named ContainerUpdateIDs.
+            case "ContainerUpdateIDs": // service ContentDirectoy
+                if (value.startsWith("R:0,") || stateDescriptionProvider
+                        .getStateOptions(new ChannelUID(getThing().getUID(), RADIO)) == null) {
+                    for (SonosEntry entry : getFavoriteRadios()) {
                         options.add(new StateOption(entry.getTitle(), entry.getTitle()));
                     }
-                    stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), FAVORITE), options);
-                    break;
-                // For favorite radios, we should have checked the state variable named RadioFavoritesUpdateID
-                // Due to a bug in the data type definition of this state variable, it is not set.
-                // As a workaround, we check the state variable named ContainerUpdateIDs.
-                case "ContainerUpdateIDs": // service ContentDirectoy
-                    if (value.startsWith("R:0,") || stateDescriptionProvider
-                            .getStateOptions(new ChannelUID(getThing().getUID(), RADIO)) == null) {
-                        for (SonosEntry entry : getFavoriteRadios()) {
-                            options.add(new StateOption(entry.getTitle(), entry.getTitle()));
-                        }
-                        stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), RADIO), options);
-                    }
-                    break;
-                case "MoreInfo":
-                    updateChannel(BATTERYCHARGING);
-                    updateChannel(BATTERYLEVEL);
-                    break;
-                case "MicEnabled":
-                    updateChannel(MICROPHONE);
-                    break;
-                default:
-                    break;
+                    stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), RADIO), options);
+                }
+                break;
+            case "MoreInfo":
+                updateChannel(BATTERYCHARGING);
+                updateChannel(BATTERYLEVEL);
+                break;
+            case "MicEnabled":
+                updateChannel(MICROPHONE);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Processes the variables of an AVTransport LastChange event while it is parsed.
+     */
+    private void processAVTransportEvent(String lastChange, String service) {
+        List<String> transportStates = new ArrayList<>(1);
+        SonosXMLParser.parseAVTransportEvent(lastChange, (variable, value) -> {
+            // Update the transport state after the update of the media information
+            // to not break the notification mechanism
+            if ("TransportState".equals(variable)) {
+                transportStates.add(value);
+            } else {
+                processValue(variable, value, service);
             }
+            // Translate AVTransportURI/AVTransportURIMetaData to CurrentURI/CurrentURIMetaData
+            // for a compatibility with the result of the action GetMediaInfo
+            if ("AVTransportURI".equals(variable)) {
+                processValue("CurrentURI", value, service);
+            } else if ("AVTransportURIMetaData".equals(variable)) {
+                processValue("CurrentURIMetaData", value, service);
+            }
+        });
+        updateMediaInformation();
+        if (!transportStates.isEmpty()) {
+            processValue("TransportState", transportStates.get(transportStates.size() - 1), service);
         }
     }
 
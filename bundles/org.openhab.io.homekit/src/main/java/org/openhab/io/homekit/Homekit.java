@@ -53,4 +53,14 @@ public interface Homekit {
      * clear all pairings with HomeKit clients
      */
     void clearHomekitPairings();
+
+    /**
+     * returns number of characteristic change notifications sent to HomeKit clients.
+     */
+    long getSentNotificationCount();
+
+    /**
+     * returns number of characteristic changes which were coalesced into another notification.
+     */
+    long getSuppressedNotificationCount();
 }
@@ -99,6 +99,26 @@ class HomekitAccessoryRegistry {
         }
     }
 
+    public synchronized @Nullable HomekitAccessory getAccessory(String itemName) {
+        return createdAccessories.get(itemName);
+    }
+
+    /**
+     * Returns a signature of the accessory layout as seen by HomeKit clients, i.e. the accessory id and the types of
+     * its services and characteristics. Clients only need to reload the accessory database if this layout changes.
+     *
+     * @param accessory accessory
+     * @return layout signature
+     */
+    public static String getLayout(HomekitAccessory accessory) {
+        final StringBuilder layout = new StringBuilder().append(accessory.getId());
+        accessory.getServices().forEach(service -> {
+            layout.append('|').append(service.getType());
+            service.getCharacteristics().forEach(c -> layout.append(',').append(c.getClass().getName()));
+        });
+        return layout.toString();
+    }
+
     public Map<String, HomekitAccessory> getAllAccessories() {
         return this.createdAccessories;
     }
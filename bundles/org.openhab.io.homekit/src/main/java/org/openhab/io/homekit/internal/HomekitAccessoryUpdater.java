@@ -14,8 +14,14 @@ package org.openhab.io.homekit.internal;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -31,11 +37,44 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Notifications of a characteristic are coalesced: after a notification has been sent, further changes within the
+ * minimum notification interval are merged into a single notification at the end of the interval. As HomeKit reads
+ * the current item state when sending the notification, the last value wins.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
-    private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ItemKey, CoalescingSubscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private final AtomicLong sentNotifications = new AtomicLong();
+    private final AtomicLong suppressedNotifications = new AtomicLong();
+    private volatile long minimumNotificationIntervalNanos = TimeUnit.MILLISECONDS
+            .toNanos(HomekitSettings.DEFAULT_MINIMUM_NOTIFICATION_INTERVAL);
+
+    /**
+     * Sets the minimum interval between two notifications of the same characteristic. 0 disables coalescing.
+     *
+     * @param milliseconds minimum interval in milliseconds
+     */
+    public void setMinimumNotificationInterval(int milliseconds) {
+        minimumNotificationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milliseconds));
+    }
+
+    /**
+     * @return number of change notifications sent to HomeKit
+     */
+    public long getSentNotificationCount() {
+        return sentNotifications.get();
+    }
+
+    /**
+     * @return number of changes that were merged into another notification and therefore not sent on their own
+     */
+    public long getSuppressedNotificationCount() {
+        return suppressedNotifications.get();
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -57,7 +96,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            CoalescingSubscription subscription = new CoalescingSubscription(callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -74,21 +113,69 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            v.cancel();
             return null;
         });
     }
 
-    @FunctionalInterface
     @NonNullByDefault
-    private interface Subscription extends StateChangeListener {
+    private class CoalescingSubscription implements StateChangeListener {
+        private final HomekitCharacteristicChangeCallback callback;
+        private long lastNotification = System.nanoTime() - minimumNotificationIntervalNanos;
+        private @Nullable ScheduledFuture<?> pendingNotification;
+
+        CoalescingSubscription(HomekitCharacteristicChangeCallback callback) {
+            this.callback = callback;
+        }
 
         @Override
-        void stateChanged(Item item, State oldState, State newState);
+        public void stateChanged(Item item, State oldState, State newState) {
+            synchronized (this) {
+                if (pendingNotification != null) {
+                    // a notification is already scheduled and will pick up the latest state
+                    suppressedNotifications.incrementAndGet();
+                    return;
+                }
+                final long now = System.nanoTime();
+                final long remaining = minimumNotificationIntervalNanos - (now - lastNotification);
+                if (remaining > 0) {
+                    pendingNotification = scheduler.schedule(this::sendPendingNotification, remaining,
+                            TimeUnit.NANOSECONDS);
+                    return;
+                }
+                lastNotification = now;
+            }
+            notifyCallback();
+        }
 
         @Override
-        default void stateUpdated(Item item, State state) {
+        public void stateUpdated(Item item, State state) {
             // Do nothing on non-change update
         }
+
+        private void sendPendingNotification() {
+            synchronized (this) {
+                if (pendingNotification == null) {
+                    return;
+                }
+                pendingNotification = null;
+                lastNotification = System.nanoTime();
+            }
+            notifyCallback();
+        }
+
+        private void notifyCallback() {
+            sentNotifications.incrementAndGet();
+            callback.changed();
+        }
+
+        synchronized void cancel() {
+            final @Nullable ScheduledFuture<?> pending = pendingNotification;
+            if (pending != null) {
+                pending.cancel(false);
+                pendingNotification = null;
+            }
+        }
     }
 
     private static class ItemKey {
@@ -14,6 +14,7 @@ package org.openhab.io.homekit.internal;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.GroupItem;
@@ -82,6 +84,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.itemRegistry = itemRegistry;
         this.settings = settings;
         this.metadataRegistry = metadataRegistry;
+        updater.setMinimumNotificationInterval(settings.minimumNotificationInterval);
         storage = storageService.getStorage(HomekitAuthInfoImpl.STORAGE_KEY);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices", scheduler, Duration.ofMillis(1000),
                 Clock.systemUTC(), this::applyUpdates);
@@ -118,7 +121,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         };
         itemRegistry.addRegistryChangeListener(this);
         metadataRegistry.addRegistryChangeListener(metadataChangeListener);
-        itemRegistry.getItems().forEach(this::createRootAccessories);
+        itemRegistry.getItems().forEach(item -> createRootAccessories(item)
+                .forEach(accessory -> accessoryRegistry.addRootAccessory(item.getName(), accessory)));
         initialiseRevision();
         logger.info("Created {} HomeKit items.", accessoryRegistry.getAllAccessories().size());
     }
@@ -154,8 +158,14 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public void allItemsChanged(Collection<String> oldItemNames) {
-        clearAccessories();
+    public synchronized void allItemsChanged(Collection<String> oldItemNames) {
+        /*
+         * Rather than dropping all accessories, mark all old and new items as dirty. applyUpdates() keeps the
+         * accessories whose definition did not change.
+         */
+        pendingUpdates.addAll(oldItemNames);
+        itemRegistry.getItems().forEach(item -> pendingUpdates.add(item.getName()));
+        applyUpdatesDebouncer.call();
     }
 
     /**
@@ -199,17 +209,38 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         storage.put(ACCESSORY_COUNT, "" + lastAccessoryCount);
     }
 
+    /**
+     * Rebuilds the accessories of all pending items. Accessories whose items and HomeKit configuration did not change
+     * are kept as they are. A new configuration revision, which forces all HomeKit clients to reload the accessory
+     * database, is only made if the layout (accessories, services, characteristics) of any accessory has changed.
+     */
     private synchronized void applyUpdates() {
         logger.trace("apply updates");
+        boolean layoutChanged = false;
         for (final String name : pendingUpdates) {
+            final @Nullable HomekitAccessory oldAccessory = accessoryRegistry.getAccessory(name);
+            final List<HomekitAccessory> newAccessories = getItemOptional(name).map(this::createRootAccessories)
+                    .orElse(List.of());
+            if (oldAccessory != null && newAccessories.size() == 1
+                    && HomekitAccessoryFactory.hasSameDefinition(oldAccessory, newAccessories.get(0))) {
+                logger.trace(" keep unchanged accessory {}", name);
+                continue;
+            }
+            final String oldLayout = oldAccessory != null ? HomekitAccessoryRegistry.getLayout(oldAccessory) : "";
             accessoryRegistry.remove(name);
             logger.trace(" add items {}", name);
-            getItemOptional(name).ifPresent(this::createRootAccessories);
+            newAccessories.forEach(accessory -> accessoryRegistry.addRootAccessory(name, accessory));
+            final @Nullable HomekitAccessory newAccessory = accessoryRegistry.getAccessory(name);
+            final String newLayout = newAccessory != null ? HomekitAccessoryRegistry.getLayout(newAccessory) : "";
+            if (!oldLayout.equals(newLayout)) {
+                logger.trace(" layout of accessory {} changed", name);
+                layoutChanged = true;
+            }
         }
-        if (!pendingUpdates.isEmpty()) {
+        if (layoutChanged) {
             makeNewConfigurationRevision();
-            pendingUpdates.clear();
         }
+        pendingUpdates.clear();
     }
 
     @Override
@@ -237,10 +268,16 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setMinimumNotificationInterval(settings.minimumNotificationInterval);
+    }
+
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
     }
 
     public void updateSettings(HomekitSettings settings) {
         this.settings = settings;
+        updater.setMinimumNotificationInterval(settings.minimumNotificationInterval);
     }
 
     public void stop() {
@@ -280,26 +317,30 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      * Switch light "Light" (gLight) {homekit="Lighting.OnState"}
      *
      * @param item openHAB item
+     * @return created accessories
      */
-    private void createRootAccessories(Item item) {
+    private List<HomekitAccessory> createRootAccessories(Item item) {
         final List<Entry<HomekitAccessoryType, HomekitCharacteristicType>> accessoryTypes = HomekitAccessoryFactory
                 .getAccessoryTypes(item, metadataRegistry);
         final List<GroupItem> groups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry);
+        final List<HomekitAccessory> accessories = new ArrayList<>();
         if (!accessoryTypes.isEmpty()
                 && (groups.isEmpty() || groups.stream().noneMatch(g -> g.getBaseItem() == null))) {
             logger.trace("Item {} is a HomeKit accessory of types {}", item.getName(), accessoryTypes);
             final HomekitOHItemProxy itemProxy = new HomekitOHItemProxy(item);
             accessoryTypes.forEach(rootAccessory -> createRootAccessory(new HomekitTaggedItem(itemProxy,
-                    rootAccessory.getKey(), HomekitAccessoryFactory.getItemConfiguration(item, metadataRegistry))));
+                    rootAccessory.getKey(), HomekitAccessoryFactory.getItemConfiguration(item, metadataRegistry)))
+                            .ifPresent(accessories::add));
         }
+        return accessories;
     }
 
-    private void createRootAccessory(HomekitTaggedItem taggedItem) {
+    private Optional<HomekitAccessory> createRootAccessory(HomekitTaggedItem taggedItem) {
         try {
-            accessoryRegistry.addRootAccessory(taggedItem.getName(),
-                    HomekitAccessoryFactory.create(taggedItem, metadataRegistry, updater, settings));
+            return Optional.of(HomekitAccessoryFactory.create(taggedItem, metadataRegistry, updater, settings));
         } catch (HomekitException e) {
             logger.warn("Could not add device {}: {}", taggedItem.getItem().getUID(), e.getMessage());
+            return Optional.empty();
         }
     }
 }
@@ -283,4 +283,14 @@ public class HomekitImpl implements Homekit {
             logger.warn("Could not clear HomeKit pairings", e);
         }
     }
+
+    @Override
+    public long getSentNotificationCount() {
+        return changeListener.getUpdater().getSentNotificationCount();
+    }
+
+    @Override
+    public long getSuppressedNotificationCount() {
+        return changeListener.getUpdater().getSuppressedNotificationCount();
+    }
 }
@@ -23,6 +23,7 @@ public class HomekitSettings {
     public static final String SERIAL_NUMBER = "none";
     public static final String MODEL = "openHAB";
     public static final String HARDWARE_REVISION = "3.0";
+    public static final int DEFAULT_MINIMUM_NOTIFICATION_INTERVAL = 500;
 
     public String name = "openHAB";
     public int port = 9123;
@@ -47,6 +48,7 @@ public class HomekitSettings {
     public String doorTargetStateClosed = "CLOSED";
     public String doorTargetStateOpen = "OPEN";
     public String networkInterface;
+    public int minimumNotificationInterval = DEFAULT_MINIMUM_NOTIFICATION_INTERVAL;
 
     @Override
     public int hashCode() {
@@ -16,6 +16,7 @@ import static org.openhab.io.homekit.internal.HomekitAccessoryType.DUMMY;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -269,6 +270,20 @@ public class HomekitTaggedItem {
         return id;
     }
 
+    /**
+     * Returns whether the other tagged item wraps the same item instance with the same HomeKit tagging and
+     * configuration. Item instances are replaced by the registry whenever an item definition changes, so identical
+     * instances mean nothing relevant to HomeKit has changed.
+     *
+     * @param other other tagged item
+     * @return true if both tagged items have the same definition
+     */
+    public boolean hasSameDefinition(HomekitTaggedItem other) {
+        return getItem() == other.getItem() && homekitAccessoryType == other.homekitAccessoryType
+                && homekitCharacteristicType == other.homekitCharacteristicType
+                && parentGroupItem == other.parentGroupItem && Objects.equals(configuration, other.configuration);
+    }
+
     public String toString() {
         return "Item:" + proxyItem.getItem() + "  HomeKit type:" + homekitAccessoryType + " HomeKit characteristic:"
                 + homekitCharacteristicType;
@@ -113,6 +113,26 @@ abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
         return accessory;
     }
 
+    /**
+     * Returns whether the other accessory is of the same type and built from the same tagged items, i.e. whether
+     * replacing this accessory by the other one would change neither its layout nor its behaviour.
+     *
+     * @param other other accessory
+     * @return true if both accessories have the same definition
+     */
+    public boolean hasSameDefinition(AbstractHomekitAccessoryImpl other) {
+        if (getClass() != other.getClass() || !accessory.hasSameDefinition(other.accessory)
+                || characteristics.size() != other.characteristics.size()) {
+            return false;
+        }
+        for (int i = 0; i < characteristics.size(); i++) {
+            if (!characteristics.get(i).hasSameDefinition(other.characteristics.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Collection<Service> getServices() {
         return this.services;
@@ -235,6 +235,19 @@ public class HomekitAccessoryFactory {
         }).filter(groupItem -> !getAccessoryTypes(groupItem, metadataRegistry).isEmpty()).collect(Collectors.toList());
     }
 
+    /**
+     * return true if both accessories are built from the same tagged items with the same configuration, i.e. the
+     * existing accessory can be kept instead of being replaced by the newly created one.
+     *
+     * @param existing accessory currently registered at the bridge
+     * @param created newly created accessory
+     * @return true if both accessories have the same definition
+     */
+    public static boolean hasSameDefinition(HomekitAccessory existing, HomekitAccessory created) {
+        return (existing instanceof AbstractHomekitAccessoryImpl) && (created instanceof AbstractHomekitAccessoryImpl)
+                && ((AbstractHomekitAccessoryImpl) existing).hasSameDefinition((AbstractHomekitAccessoryImpl) created);
+    }
+
     /**
      * collect all mandatory characteristics for a given tagged item, e.g. collect all mandatory HomeKit items from a
      * GroupItem
@@ -19,13 +19,17 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.hueemulation.internal.dto.HueDataStore;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse.HueErrorMessage;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponseSuccessSimple;
@@ -116,6 +120,58 @@ public class NetworkUtils {
         return Response.status(httpCode).entity(str).build();
     }
 
+    /**
+     * Creates a json response from a serialized snapshot. Answers with 304 (Not Modified) if the client already has
+     * the current version and compresses the content if the client accepts gzip.
+     *
+     * @param snapshot The serialized resource
+     * @param ifNoneMatch The If-None-Match request header
+     * @param acceptEncoding The Accept-Encoding request header
+     * @return A response
+     */
+    public static Response snapshotResponse(HueDataStore.Snapshot snapshot, @Nullable String ifNoneMatch,
+            @Nullable String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        String etag = gzip ? snapshot.gzipEtag : snapshot.etag;
+        if (ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        ResponseBuilder builder = Response.ok().type(MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-8"))
+                .header(HttpHeaders.ETAG, etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.entity(snapshot.getGzipped()).header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        } else {
+            builder.entity(snapshot.json);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Checks if an If-None-Match header matches the given entity tag. The header is either "*" or a comma separated
+     * list of entity tags, which are compared weakly as required for If-None-Match.
+     *
+     * @param ifNoneMatch The If-None-Match request header
+     * @param etag The entity tag of the current representation
+     * @return true if the client already has the current representation
+     */
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static Response singleSuccess(Gson gson, String message, String uriPart) {
         List<HueResponse> responses = new ArrayList<>();
         responses.add(new HueResponse(new HueSuccessGeneric(message, uriPart)));
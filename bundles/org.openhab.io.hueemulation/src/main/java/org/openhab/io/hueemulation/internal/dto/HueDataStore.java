@@ -12,11 +12,21 @@
  */
 package org.openhab.io.hueemulation.internal.dto;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * Hue data store object. Contains all lights, configuration, user whitelist etc.
@@ -38,6 +48,12 @@ public class HueDataStore {
     public Map<Integer, Dummy> resourcelinks = Collections.emptyMap();
     public Map<String, HueCapability> capabilities = new TreeMap<>();
 
+    public static final String SNAPSHOT_LIGHTS = "lights";
+    public static final String SNAPSHOT_GROUPS = "groups";
+
+    private final transient AtomicLong version = new AtomicLong();
+    private final transient Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
     public HueDataStore() {
         resetGroupsAndLights();
         capabilities.put("lights", new HueCapability());
@@ -54,6 +70,77 @@ public class HueDataStore {
         lights.clear();
         // There must be a group 0 all the time!
         groups.put("0", new HueGroupEntry("All lights", null, null));
+        invalidateSnapshots();
+    }
+
+    /**
+     * Marks all serialized snapshots as outdated. Must be called whenever the lights, groups or the state of their
+     * items change.
+     */
+    public void invalidateSnapshots() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the serialized form of the given resource. The serializer is only called if the data store has changed
+     * since the last call for this resource.
+     *
+     * @param resource The resource, any of SNAPSHOT_*
+     * @param serializer Creates the json representation of the resource
+     * @return The current snapshot
+     */
+    public Snapshot getSnapshot(String resource, Supplier<String> serializer) {
+        final long currentVersion = version.get();
+        Snapshot snapshot = snapshots.get(resource);
+        if (snapshot != null && snapshot.version == currentVersion) {
+            return snapshot;
+        }
+        synchronized (snapshots) {
+            snapshot = snapshots.get(resource);
+            if (snapshot != null && snapshot.version == currentVersion) {
+                return snapshot;
+            }
+            snapshot = new Snapshot(currentVersion, serializer.get().getBytes(StandardCharsets.UTF_8));
+            snapshots.put(resource, snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * A serialized json representation of a resource, together with its entity tag and a lazily computed gzip
+     * compressed form. The compressed form is a different representation and therefore has its own entity tag.
+     */
+    public static class Snapshot {
+        public final long version;
+        public final byte[] json;
+        public final String etag;
+        public final String gzipEtag;
+        private byte @Nullable [] gzipped;
+
+        public Snapshot(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            String tag = Long.toHexString(crc.getValue()) + "-" + json.length;
+            this.etag = "\"" + tag + "\"";
+            this.gzipEtag = "\"" + tag + "-gz\"";
+        }
+
+        public synchronized byte[] getGzipped() {
+            byte[] result = gzipped;
+            if (result == null) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                    gzip.write(json);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                result = buffer.toByteArray();
+                gzipped = result;
+            }
+            return result;
+        }
     }
 
     public void resetSensors() {
@@ -15,17 +15,20 @@ package org.openhab.io.hueemulation.internal.rest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
@@ -33,12 +36,17 @@ import javax.ws.rs.core.UriInfo;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventPublisher;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
 import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.types.Command;
 import org.openhab.io.hueemulation.internal.ConfigStore;
@@ -46,6 +54,7 @@ import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.HueEmulationService;
 import org.openhab.io.hueemulation.internal.NetworkUtils;
 import org.openhab.io.hueemulation.internal.StateUtils;
+import org.openhab.io.hueemulation.internal.dto.HueDataStore;
 import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
 import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
 import org.openhab.io.hueemulation.internal.dto.HueNewLights;
@@ -91,23 +100,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
  * </p>
  *
  * <p>
+ * The serialized lights and groups lists are kept as snapshots in the data store. They are invalidated on registry
+ * changes and on state changes of exposed items only, so polling clients are answered without re-serializing.
  * </p>
  *
  * @author David Graeff - Initial contribution
  * @author Florian Schmidt - Removed base type restriction from Group items
  */
-@Component(immediate = false, service = LightsAndGroups.class)
+@Component(immediate = false, service = { LightsAndGroups.class, EventSubscriber.class })
 @JaxrsResource
 @JaxrsApplicationSelect("(" + JaxrsWhiteboardConstants.JAX_RS_NAME + "=" + HueEmulationService.REST_APP_NAME + ")")
 @NonNullByDefault
 @Path("")
 @Produces(MediaType.APPLICATION_JSON)
-public class LightsAndGroups implements RegistryChangeListener<Item> {
+public class LightsAndGroups implements RegistryChangeListener<Item>, EventSubscriber {
     public static final String EXPOSE_AS_DEVICE_TAG = "huelight";
     private final Logger logger = LoggerFactory.getLogger(LightsAndGroups.class);
     private static final String ITEM_TYPE_GROUP = "Group";
     private static final Set<String> ALLOWED_ITEM_TYPES = Stream.of(CoreItemFactory.COLOR, CoreItemFactory.DIMMER,
             CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.SWITCH, ITEM_TYPE_GROUP).collect(Collectors.toSet());
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ItemStateChangedEvent.TYPE,
+            GroupItemStateChangedEvent.TYPE);
+
+    /** Names of all items exposed as light or group, to filter state change events */
+    private final Set<String> exposedItemNames = ConcurrentHashMap.newKeySet();
 
     @Reference
     protected @NonNullByDefault({}) ConfigStore cs;
@@ -124,6 +140,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Activate
     protected void activate() {
         cs.ds.resetGroupsAndLights();
+        exposedItemNames.clear();
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -185,6 +202,8 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             cs.ds.lights.put(hueID, device);
             updateGroup0();
         }
+        exposedItemNames.add(element.getName());
+        cs.ds.invalidateSnapshots();
     }
 
     /**
@@ -202,6 +221,8 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         cs.ds.lights.remove(hueID);
         cs.ds.groups.remove(hueID);
         updateGroup0();
+        exposedItemNames.remove(element.getName());
+        cs.ds.invalidateSnapshots();
     }
 
     /**
@@ -242,17 +263,44 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         }
 
         hueDevice.updateItem(element);
+        cs.ds.invalidateSnapshots();
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public @Nullable EventFilter getEventFilter() {
+        return null;
+    }
+
+    /**
+     * The serialized state of lights and groups is derived from the item states. Invalidate the snapshots if the
+     * state of an exposed item changes.
+     */
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemStateChangedEvent
+                && exposedItemNames.contains(((ItemStateChangedEvent) event).getItemName())) {
+            cs.ds.invalidateSnapshots();
+        }
     }
 
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
     public Response getAllLightsApi(@Context UriInfo uri,
-            @PathParam("username") @Parameter(description = "username") String username) {
+            @PathParam("username") @Parameter(description = "username") String username,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return NetworkUtils.snapshotResponse(
+                cs.ds.getSnapshot(HueDataStore.SNAPSHOT_LIGHTS, () -> cs.gson.toJson(cs.ds.lights)), ifNoneMatch,
+                acceptEncoding);
     }
 
     @GET
@@ -383,6 +431,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             }
             hueDevice.lastCommand = command;
             hueDevice.lastHueChange = newState;
+            cs.ds.invalidateSnapshots();
         }
 
         return Response.ok(cs.gson.toJson(responses, new TypeToken<List<?>>() {
@@ -429,6 +478,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             } else {
                 logger.warn("No event publisher. Cannot post item '{}' command!", groupItem.getUID());
             }
+            cs.ds.invalidateSnapshots();
         }
 
         return Response.ok(cs.gson.toJson(responses, new TypeToken<List<?>>() {
@@ -439,11 +489,15 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
     public Response getAllGroupsApi(@Context UriInfo uri,
-            @PathParam("username") @Parameter(description = "username") String username) {
+            @PathParam("username") @Parameter(description = "username") String username,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return NetworkUtils.snapshotResponse(
+                cs.ds.getSnapshot(HueDataStore.SNAPSHOT_GROUPS, () -> cs.gson.toJson(cs.ds.groups)), ifNoneMatch,
+                acceptEncoding);
     }
 
     @GET
@@ -18,9 +18,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -335,6 +340,70 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsNotModifiedForCurrentEtag() {
+        Response response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request().get();
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaderString(HttpHeaders.ETAG);
+        assertThat(etag, is(notNullValue()));
+
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(304, response.getStatus());
+        assertThat(response.getHeaderString(HttpHeaders.ETAG), is(etag));
+
+        // the current tag somewhere in a list of tags
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag).get();
+        assertEquals(304, response.getStatus());
+
+        // a tag that only contains the current tag does not match
+        String longerTag = etag.substring(0, etag.length() - 1) + "0\"";
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, longerTag).get();
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    public void allLightsGzippedWithOwnEtag() throws IOException {
+        Response response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request().get();
+        String etag = response.getHeaderString(HttpHeaders.ETAG);
+        String body = response.readEntity(String.class);
+
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip").get();
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), is("gzip"));
+        String gzipEtag = response.getHeaderString(HttpHeaders.ETAG);
+        assertThat(gzipEtag, is(not(etag)));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.readEntity(byte[].class)))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is(body));
+        }
+
+        // the tag of one representation does not match the other one
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).header(HttpHeaders.ACCEPT_ENCODING, "gzip").get();
+        assertEquals(200, response.getStatus());
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, gzipEtag).header(HttpHeaders.ACCEPT_ENCODING, "gzip").get();
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    public void allLightsEtagChangesAfterStateChange() {
+        Response response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request().get();
+        String etag = response.getHeaderString(HttpHeaders.ETAG);
+
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights/1/state").request()
+                .put(Entity.json("{'on':true}"));
+        assertEquals(200, response.getStatus());
+
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaderString(HttpHeaders.ETAG), is(not(etag)));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
@@ -27,8 +27,12 @@ public class ImperiHomeConfig {
 
     private final Logger logger = LoggerFactory.getLogger(ImperiHomeConfig.class);
 
+    public static final int DEFAULT_HISTORY_MAX_POINTS = 500;
+
     private String systemId;
     private String rootUrl;
+    private int historyMaxPoints = DEFAULT_HISTORY_MAX_POINTS;
+    private HistoryAggregation historyAggregation = HistoryAggregation.MINMAX;
 
     public void update(Map<String, Object> config) {
         Object cSystemId = config.get("system.id");
@@ -46,6 +50,27 @@ public class ImperiHomeConfig {
             }
         }
 
+        historyMaxPoints = DEFAULT_HISTORY_MAX_POINTS;
+        Object maxPointsObj = config.get("history.maxPoints");
+        if (maxPointsObj != null && !maxPointsObj.toString().isEmpty()) {
+            try {
+                historyMaxPoints = Math.max(0, Integer.parseInt(maxPointsObj.toString().trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid history.maxPoints value '{}', using {}", maxPointsObj, DEFAULT_HISTORY_MAX_POINTS);
+            }
+        }
+
+        historyAggregation = HistoryAggregation.MINMAX;
+        Object aggregationObj = config.get("history.aggregation");
+        if (aggregationObj != null && !aggregationObj.toString().isEmpty()) {
+            try {
+                historyAggregation = HistoryAggregation.valueOf(aggregationObj.toString().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid history.aggregation value '{}', using {}", aggregationObj,
+                        HistoryAggregation.MINMAX.name().toLowerCase());
+            }
+        }
+
         logger.info("Configuration updated");
     }
 
@@ -56,4 +81,25 @@ public class ImperiHomeConfig {
     public String getRootUrl() {
         return rootUrl;
     }
+
+    /**
+     * @return Maximum number of points returned for a history request, 0 if history is not downsampled.
+     */
+    public int getHistoryMaxPoints() {
+        return historyMaxPoints;
+    }
+
+    public HistoryAggregation getHistoryAggregation() {
+        return historyAggregation;
+    }
+
+    /**
+     * How the values within a time bucket are reduced when downsampling history.
+     */
+    public enum HistoryAggregation {
+        /** Keep the lowest and highest value of each bucket */
+        MINMAX,
+        /** Average all values of a bucket */
+        AVERAGE
+    }
 }
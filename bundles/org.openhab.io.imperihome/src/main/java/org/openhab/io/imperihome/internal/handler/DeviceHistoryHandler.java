@@ -20,6 +20,8 @@ import java.time.ZonedDateTime;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 
 import javax.servlet.http.HttpServletRequest;
@@ -31,6 +33,9 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.types.State;
+import org.openhab.io.imperihome.internal.ImperiHomeConfig;
+import org.openhab.io.imperihome.internal.ImperiHomeConfig.HistoryAggregation;
+import org.openhab.io.imperihome.internal.handler.HistoryBucketCache.Bucket;
 import org.openhab.io.imperihome.internal.model.HistoryItem;
 import org.openhab.io.imperihome.internal.model.HistoryList;
 import org.openhab.io.imperihome.internal.model.device.AbstractDevice;
@@ -39,7 +44,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Device history request handler.
+ * Device history request handler. Unless disabled in the configuration, history is downsampled into time buckets sized
+ * to the requested range, and past buckets are cached to avoid querying persistence for every graph refresh.
  *
  * @author Pepijn de Geus - Initial contribution
  */
@@ -47,14 +53,21 @@ public class DeviceHistoryHandler {
 
     private static final String CHARSET = "UTF-8";
 
+    /** Number of buckets kept in the cache per requested bucket, so that ranges can move on without re-querying */
+    private static final int CACHED_BUCKETS_FACTOR = 4;
+
     private final Logger logger = LoggerFactory.getLogger(DeviceHistoryHandler.class);
 
     private final DeviceRegistry deviceRegistry;
     private final PersistenceServiceRegistry persistenceServiceRegistry;
+    private final ImperiHomeConfig config;
+    private final HistoryBucketCache cache = new HistoryBucketCache();
 
-    public DeviceHistoryHandler(DeviceRegistry deviceRegistry, PersistenceServiceRegistry persistenceServiceRegistry) {
+    public DeviceHistoryHandler(DeviceRegistry deviceRegistry, PersistenceServiceRegistry persistenceServiceRegistry,
+            ImperiHomeConfig config) {
         this.deviceRegistry = deviceRegistry;
         this.persistenceServiceRegistry = persistenceServiceRegistry;
+        this.config = config;
     }
 
     public HistoryList handle(HttpServletRequest req, Matcher urlMatcher) {
@@ -87,14 +100,118 @@ public class DeviceHistoryHandler {
             return null;
         }
 
-        return serveHistory(device, (QueryablePersistenceService) persistence, start, end);
+        int maxPoints = config.getHistoryMaxPoints();
+        if (maxPoints <= 0 || end <= start) {
+            return serveHistory(device, (QueryablePersistenceService) persistence, start, end);
+        }
+        return serveDownsampledHistory(device, (QueryablePersistenceService) persistence, start, end, maxPoints,
+                config.getHistoryAggregation());
+    }
+
+    private HistoryList serveDownsampledHistory(AbstractDevice device, QueryablePersistenceService persistence,
+            long start, long end, int maxPoints, HistoryAggregation aggregation) {
+        // min/max aggregation returns up to two points per bucket
+        int bucketCount = aggregation == HistoryAggregation.MINMAX ? Math.max(1, maxPoints / 2) : maxPoints;
+        long width = HistoryBucketCache.getBucketWidth(start, end, bucketCount);
+        long firstBucket = HistoryBucketCache.alignedStart(start, width);
+        long lastBucket = HistoryBucketCache.alignedStart(end, width);
+        String serviceId = persistence.getId();
+        String itemName = device.getItemName();
+
+        Map<Long, Bucket> buckets = cache.get(serviceId, itemName, width, start, end);
+        long missingFrom = -1;
+        long missingTo = -1;
+        for (long bucket = firstBucket; bucket <= lastBucket; bucket += width) {
+            if (!buckets.containsKey(bucket)) {
+                if (missingFrom < 0) {
+                    missingFrom = bucket;
+                }
+                missingTo = bucket;
+            }
+        }
+
+        if (missingFrom < 0) {
+            logger.debug("Serving history of Item {} from cache ({} ms buckets)", itemName, width);
+        } else {
+            Map<Long, Bucket> queried = new TreeMap<>();
+            for (long bucket = missingFrom; bucket <= missingTo; bucket += width) {
+                queried.put(bucket, new Bucket());
+            }
+            for (HistoryItem item : query(persistence, itemName, missingFrom, missingTo + width - 1)) {
+                Bucket bucket = queried.get(HistoryBucketCache.alignedStart(item.getDate(), width));
+                if (bucket != null) {
+                    bucket.add(item.getDate(), item.getValue());
+                }
+            }
+            cache.put(serviceId, itemName, width, queried, System.currentTimeMillis(),
+                    bucketCount * CACHED_BUCKETS_FACTOR);
+            buckets.putAll(queried);
+        }
+
+        return new HistoryList(toHistoryItems(buckets, width, aggregation, start, end, System.currentTimeMillis()));
+    }
+
+    /**
+     * Creates the points of the downsampled history. Buckets are aligned to their width, so the first and last bucket
+     * may extend beyond the requested range, and the current bucket may extend into the future. Points measured outside
+     * of the requested range are left out, and averages are placed in the center of the part of their bucket that
+     * lies within the range and before now.
+     *
+     * @param buckets Buckets by bucket start, in ascending order.
+     * @param width Bucket width in milliseconds.
+     * @param aggregation How buckets with several values are aggregated.
+     * @param start Range start in epoch milliseconds.
+     * @param end Range end in epoch milliseconds.
+     * @param now Current time in epoch milliseconds.
+     * @return The history points.
+     */
+    static List<HistoryItem> toHistoryItems(Map<Long, Bucket> buckets, long width, HistoryAggregation aggregation,
+            long start, long end, long now) {
+        long limit = Math.max(start, Math.min(end, now));
+        List<HistoryItem> resultItems = new LinkedList<>();
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            if (bucket.getCount() == 0) {
+                continue;
+            }
+            if (bucket.getCount() > 1 && aggregation == HistoryAggregation.AVERAGE) {
+                long from = Math.max(start, entry.getKey());
+                long to = Math.min(limit, entry.getKey() + width);
+                if (from < to) {
+                    resultItems.add(new HistoryItem(from + (to - from) / 2, bucket.getAverage()));
+                }
+                continue;
+            }
+            boolean minInRange = bucket.getMinDate() >= start && bucket.getMinDate() <= limit;
+            boolean maxInRange = bucket.getMaxDate() >= start && bucket.getMaxDate() <= limit;
+            if (bucket.getCount() == 1 || bucket.getMinDate() == bucket.getMaxDate()) {
+                addIf(resultItems, minInRange, bucket.getMinDate(), bucket.getMin());
+            } else if (bucket.getMinDate() < bucket.getMaxDate()) {
+                addIf(resultItems, minInRange, bucket.getMinDate(), bucket.getMin());
+                addIf(resultItems, maxInRange, bucket.getMaxDate(), bucket.getMax());
+            } else {
+                addIf(resultItems, maxInRange, bucket.getMaxDate(), bucket.getMax());
+                addIf(resultItems, minInRange, bucket.getMinDate(), bucket.getMin());
+            }
+        }
+        return resultItems;
+    }
+
+    private static void addIf(List<HistoryItem> items, boolean add, long date, Number value) {
+        if (add) {
+            items.add(new HistoryItem(date, value));
+        }
     }
 
     private HistoryList serveHistory(AbstractDevice device, QueryablePersistenceService persistence, long start,
             long end) {
-        logger.info("Querying persistence for history of Item {}, from {} to {}", device.getItemName(), start, end);
+        return new HistoryList(query(persistence, device.getItemName(), start, end));
+    }
+
+    private List<HistoryItem> query(QueryablePersistenceService persistence, String itemName, long start, long end) {
+        logger.info("Querying persistence for history of Item {}, from {} to {}", itemName, start, end);
 
-        FilterCriteria criteria = new FilterCriteria().setItemName(device.getItemName())
+        FilterCriteria criteria = new FilterCriteria().setItemName(itemName)
                 .setBeginDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(start), ZoneId.systemDefault()))
                 .setEndDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(end), ZoneId.systemDefault()));
 
@@ -120,6 +237,6 @@ public class DeviceHistoryHandler {
             }
         }
 
-        return new HistoryList(resultItems);
+        return resultItems;
     }
 }
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.imperihome.internal.handler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Cache of downsampled item history. History is aggregated into time buckets aligned to multiples of the bucket width,
+ * so that requests for slightly different ranges (like a graph refreshed a minute later) share the same buckets.
+ * Only buckets that lie completely in the past are cached.
+ *
+ * @author agent - Initial contribution
+ */
+public class HistoryBucketCache {
+
+    /** Bucket widths in milliseconds; a requested width is rounded up to the next one */
+    private static final long[] BUCKET_WIDTHS = { 1000L, 5000L, 15000L, 30000L, 60000L, 120000L, 300000L, 600000L,
+            900000L, 1800000L, 3600000L, 7200000L, 10800000L, 21600000L, 43200000L, 86400000L };
+
+    /** Buckets ending less than this before now are not cached, as persistence may still be catching up */
+    private static final long SETTLE_TIME = 60000L;
+
+    private static final int MAX_SERIES = 100;
+
+    private final Map<SeriesKey, TreeMap<Long, Bucket>> series = new LinkedHashMap<SeriesKey, TreeMap<Long, Bucket>>(
+            16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SeriesKey, TreeMap<Long, Bucket>> eldest) {
+            return size() > MAX_SERIES;
+        }
+    };
+
+    /**
+     * Returns the aligned bucket width to use for the given range.
+     *
+     * @param start Range start in epoch milliseconds.
+     * @param end Range end in epoch milliseconds.
+     * @param bucketCount Maximum number of buckets for the range.
+     * @return Bucket width in milliseconds.
+     */
+    public static long getBucketWidth(long start, long end, int bucketCount) {
+        long width = Math.max(1, (end - start + bucketCount - 1) / Math.max(1, bucketCount));
+        for (long candidate : BUCKET_WIDTHS) {
+            if (candidate >= width) {
+                return candidate;
+            }
+        }
+        long day = BUCKET_WIDTHS[BUCKET_WIDTHS.length - 1];
+        return (width + day - 1) / day * day;
+    }
+
+    /**
+     * Returns the cached buckets between (and including) the buckets containing start and end.
+     *
+     * @return Buckets by bucket start, missing buckets are not cached.
+     */
+    public synchronized Map<Long, Bucket> get(String serviceId, String itemName, long width, long start, long end) {
+        TreeMap<Long, Bucket> buckets = series.get(new SeriesKey(serviceId, itemName, width));
+        if (buckets == null) {
+            return new TreeMap<>();
+        }
+        return new TreeMap<>(buckets.subMap(alignedStart(start, width), true, alignedStart(end, width), true));
+    }
+
+    /**
+     * Stores the buckets that lie completely in the past.
+     *
+     * @param now Current time in epoch milliseconds.
+     * @param maxBuckets Maximum number of buckets to keep for this series.
+     */
+    public synchronized void put(String serviceId, String itemName, long width, Map<Long, Bucket> buckets, long now,
+            int maxBuckets) {
+        TreeMap<Long, Bucket> cached = series.computeIfAbsent(new SeriesKey(serviceId, itemName, width),
+                k -> new TreeMap<>());
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            if (entry.getKey() + width <= now - SETTLE_TIME) {
+                cached.put(entry.getKey(), entry.getValue());
+            }
+        }
+        while (cached.size() > maxBuckets) {
+            cached.pollFirstEntry();
+        }
+    }
+
+    public synchronized void clear() {
+        series.clear();
+    }
+
+    public static long alignedStart(long timestamp, long width) {
+        return Math.floorDiv(timestamp, width) * width;
+    }
+
+    /**
+     * Aggregated values of a single time bucket. A bucket without values marks a range known to be empty.
+     */
+    public static class Bucket {
+        private int count;
+        private double sum;
+        private long minDate;
+        private Number min;
+        private long maxDate;
+        private Number max;
+
+        public void add(long date, Number value) {
+            double v = value.doubleValue();
+            if (count == 0 || v < min.doubleValue()) {
+                min = value;
+                minDate = date;
+            }
+            if (count == 0 || v > max.doubleValue()) {
+                max = value;
+                maxDate = date;
+            }
+            sum += v;
+            count++;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getAverage() {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        public long getMinDate() {
+            return minDate;
+        }
+
+        public Number getMin() {
+            return min;
+        }
+
+        public long getMaxDate() {
+            return maxDate;
+        }
+
+        public Number getMax() {
+            return max;
+        }
+    }
+
+    private static class SeriesKey {
+        private final String serviceId;
+        private final String itemName;
+        private final long width;
+
+        private SeriesKey(String serviceId, String itemName, long width) {
+            this.serviceId = serviceId;
+            this.itemName = itemName;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SeriesKey)) {
+                return false;
+            }
+            SeriesKey other = (SeriesKey) o;
+            return width == other.width && serviceId.equals(other.serviceId) && itemName.equals(other.itemName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceId, itemName, width);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.imperihome.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.io.imperihome.internal.ImperiHomeConfig.HistoryAggregation;
+import org.openhab.io.imperihome.internal.handler.HistoryBucketCache.Bucket;
+import org.openhab.io.imperihome.internal.model.HistoryItem;
+
+/**
+ * Tests for the downsampled history points of {@link DeviceHistoryHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceHistoryHandlerTest {
+
+    private static final long WIDTH = 60000;
+
+    private static Bucket bucket(long... datesAndValues) {
+        Bucket bucket = new Bucket();
+        for (int i = 0; i < datesAndValues.length; i += 2) {
+            bucket.add(datesAndValues[i], datesAndValues[i + 1]);
+        }
+        return bucket;
+    }
+
+    @Test
+    public void pointsOutsideOfTheRangeAreDropped() {
+        long start = 100000;
+        long end = 200000;
+        Map<Long, Bucket> buckets = new TreeMap<>();
+        // first bucket starts before the range, last bucket ends after it
+        buckets.put(60000L, bucket(70000, 5, 110000, 10));
+        buckets.put(120000L, bucket(130000, 1));
+        buckets.put(180000L, bucket(190000, 2, 230000, 8));
+
+        List<HistoryItem> items = DeviceHistoryHandler.toHistoryItems(buckets, WIDTH, HistoryAggregation.MINMAX, start,
+                end, Long.MAX_VALUE);
+
+        // the minimum of the first bucket and the maximum of the last bucket were measured outside of the range
+        assertEquals(3, items.size());
+        assertEquals(110000, items.get(0).getDate());
+        assertEquals(10L, items.get(0).getValue());
+        assertEquals(130000, items.get(1).getDate());
+        assertEquals(1L, items.get(1).getValue());
+        assertEquals(190000, items.get(2).getDate());
+        assertEquals(2L, items.get(2).getValue());
+    }
+
+    @Test
+    public void pointsAfterNowAreDropped() {
+        Map<Long, Bucket> buckets = new TreeMap<>();
+        buckets.put(60000L, bucket(70000, 7, 110000, 3));
+
+        List<HistoryItem> items = DeviceHistoryHandler.toHistoryItems(buckets, WIDTH, HistoryAggregation.MINMAX, 0,
+                200000, 100000);
+
+        assertEquals(1, items.size());
+        assertEquals(70000, items.get(0).getDate());
+        assertEquals(7L, items.get(0).getValue());
+    }
+
+    @Test
+    public void averageOfCurrentBucketIsCenteredOnItsPast() {
+        long start = 0;
+        long end = 1000000;
+        long now = 185000;
+        Map<Long, Bucket> buckets = new TreeMap<>();
+        buckets.put(120000L, bucket(130000, 1, 150000, 3));
+        // the center of the current bucket (210000) lies after now
+        buckets.put(180000L, bucket(181000, 2, 184000, 4));
+
+        List<HistoryItem> items = DeviceHistoryHandler.toHistoryItems(buckets, WIDTH, HistoryAggregation.AVERAGE,
+                start, end, now);
+
+        assertEquals(2, items.size());
+        assertEquals(150000, items.get(0).getDate());
+        assertEquals(2.0, items.get(0).getValue().doubleValue());
+        // the center of the part of the bucket before now
+        assertEquals(182500, items.get(1).getDate());
+        assertEquals(3.0, items.get(1).getValue().doubleValue());
+    }
+
+    @Test
+    public void emptyBucketsAreSkipped() {
+        Map<Long, Bucket> buckets = new TreeMap<>();
+        buckets.put(0L, new Bucket());
+        buckets.put(60000L, bucket(70000, 7));
+
+        List<HistoryItem> items = DeviceHistoryHandler.toHistoryItems(buckets, WIDTH, HistoryAggregation.AVERAGE, 0,
+                120000, Long.MAX_VALUE);
+
+        assertEquals(1, items.size());
+        assertEquals(70000, items.get(0).getDate());
+    }
+}
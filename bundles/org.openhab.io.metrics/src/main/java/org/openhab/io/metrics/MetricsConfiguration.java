@@ -28,12 +28,34 @@ public class MetricsConfiguration {
     public @Nullable String influxPassword = null;
     public @Nullable String influxUsername = null;
     public Integer influxUpdateIntervalInSeconds = 300;
+    public Integer prometheusCacheTimeToLiveInSeconds = 5;
+    public boolean prometheusCompressionEnabled = true;
+    public Integer pushBatchSize = 10000;
+    public boolean pushCompressionEnabled = true;
+    public Integer pushMaxRetries = 2;
+    public boolean statsdMetricsEnabled = false;
+    public String statsdHost = "localhost";
+    public Integer statsdPort = 8125;
+    public Integer statsdMaxPacketLength = 1432;
+    public Integer statsdUpdateIntervalInSeconds = 60;
+    public boolean otlpMetricsEnabled = false;
+    public String otlpURL = "http://localhost:4318/v1/metrics";
+    public String otlpServiceName = "openhab";
+    public Integer otlpUpdateIntervalInSeconds = 60;
 
     @Override
     public String toString() {
         return "MetricsConfiguration{" + "influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL
                 + '\'' + ", influxDB='" + influxDB + '\'' + ", influxPassword='" + influxPassword + '\''
                 + ", influxUsername='" + influxUsername + '\'' + ", influxUpdateIntervalInSeconds="
-                + influxUpdateIntervalInSeconds + '}';
+                + influxUpdateIntervalInSeconds + ", prometheusCacheTimeToLiveInSeconds="
+                + prometheusCacheTimeToLiveInSeconds + ", prometheusCompressionEnabled=" + prometheusCompressionEnabled
+                + ", pushBatchSize=" + pushBatchSize + ", pushCompressionEnabled=" + pushCompressionEnabled
+                + ", pushMaxRetries=" + pushMaxRetries + ", statsdMetricsEnabled=" + statsdMetricsEnabled
+                + ", statsdHost='" + statsdHost + '\'' + ", statsdPort=" + statsdPort + ", statsdMaxPacketLength="
+                + statsdMaxPacketLength + ", statsdUpdateIntervalInSeconds=" + statsdUpdateIntervalInSeconds
+                + ", otlpMetricsEnabled=" + otlpMetricsEnabled + ", otlpURL='" + otlpURL + '\''
+                + ", otlpServiceName='" + otlpServiceName + '\'' + ", otlpUpdateIntervalInSeconds="
+                + otlpUpdateIntervalInSeconds + '}';
     }
 }
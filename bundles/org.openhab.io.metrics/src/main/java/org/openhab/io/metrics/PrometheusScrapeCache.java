@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+/**
+ * The {@link PrometheusScrapeCache} keeps the most recent Prometheus scrape result for a configurable time to live,
+ * so that concurrent and closely spaced scrapes share a single pass over the meter registry.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PrometheusScrapeCache {
+
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+    private volatile long timeToLiveNanos = 0;
+    private volatile @Nullable Snapshot snapshot = null;
+
+    public PrometheusScrapeCache(PrometheusMeterRegistry prometheusMeterRegistry) {
+        this.prometheusMeterRegistry = prometheusMeterRegistry;
+    }
+
+    /**
+     * Sets the time a scrape result is reused for, measured with the clock of the meter registry. A value of 0
+     * disables caching.
+     *
+     * @param timeToLiveInSeconds the time to live in seconds
+     */
+    public void setTimeToLive(int timeToLiveInSeconds) {
+        timeToLiveNanos = TimeUnit.SECONDS.toNanos(Math.max(0, timeToLiveInSeconds));
+        snapshot = null;
+    }
+
+    public boolean isEnabled() {
+        return timeToLiveNanos > 0;
+    }
+
+    /**
+     * Writes the current scrape result to the given stream, either from the cache or by streaming the registry
+     * content directly if caching is disabled.
+     *
+     * @param out the stream to write to
+     * @param gzip whether the written content should be gzip compressed
+     * @throws IOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream out, boolean gzip) throws IOException {
+        if (!isEnabled()) {
+            OutputStream target = gzip ? new GZIPOutputStream(out) : out;
+            Writer writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
+            prometheusMeterRegistry.scrape(writer);
+            writer.flush();
+            if (target instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) target).finish();
+            }
+            return;
+        }
+        Snapshot current = getSnapshot();
+        out.write(gzip ? current.getGzipped() : current.plain);
+    }
+
+    private long monotonicTime() {
+        return prometheusMeterRegistry.config().clock().monotonicTime();
+    }
+
+    private Snapshot getSnapshot() throws IOException {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired(monotonicTime(), timeToLiveNanos)) {
+            return current;
+        }
+        synchronized (this) {
+            // another scraper may have refreshed the snapshot while we were waiting
+            current = snapshot;
+            if (current != null && !current.isExpired(monotonicTime(), timeToLiveNanos)) {
+                return current;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(current != null ? current.plain.length : 8192);
+            Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+            prometheusMeterRegistry.scrape(writer);
+            writer.flush();
+            current = new Snapshot(buffer.toByteArray(), monotonicTime());
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private static class Snapshot {
+        private final byte[] plain;
+        private final long createdNanos;
+        private byte @Nullable [] gzipped;
+
+        private Snapshot(byte[] plain, long createdNanos) {
+            this.plain = plain;
+            this.createdNanos = createdNanos;
+        }
+
+        private boolean isExpired(long nowNanos, long timeToLiveNanos) {
+            return nowNanos - createdNanos >= timeToLiveNanos;
+        }
+
+        private synchronized byte[] getGzipped() throws IOException {
+            byte[] result = gzipped;
+            if (result == null) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(plain.length / 4);
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+                    gzipStream.write(plain);
+                }
+                result = buffer.toByteArray();
+                gzipped = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.step.StepMeterRegistry;
+import io.micrometer.core.instrument.util.MeterPartition;
+
+/**
+ * The {@link BatchingMeterRegistry} is a step based registry which publishes its meters in batches of a configurable
+ * size to a {@link MetricsBatchSender}, retrying failed batches a bounded number of times.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BatchingMeterRegistry extends StepMeterRegistry {
+
+    private final Logger logger = LoggerFactory.getLogger(BatchingMeterRegistry.class);
+    private final BatchingRegistryConfig config;
+    private final MetricsBatchSender sender;
+
+    public BatchingMeterRegistry(BatchingRegistryConfig config, MetricsBatchSender sender,
+            NamingConvention namingConvention, Clock clock) {
+        super(config, clock);
+        this.config = config;
+        this.sender = sender;
+        config().namingConvention(namingConvention);
+    }
+
+    @Override
+    protected void publish() {
+        long timestamp = clock.wallTime();
+        NamingConvention namingConvention = config().namingConvention();
+        for (List<Meter> batch : MeterPartition.partition(this, Math.max(1, config.batchSize()))) {
+            List<MetricSample> samples = MetricSample.of(batch, namingConvention, timestamp);
+            if (!samples.isEmpty() && !sendWithRetry(samples)) {
+                return;
+            }
+        }
+    }
+
+    private boolean sendWithRetry(List<MetricSample> samples) {
+        int attempt = 0;
+        while (true) {
+            try {
+                sender.send(samples, config.compressed());
+                return true;
+            } catch (IOException e) {
+                if (attempt >= config.maxRetries()) {
+                    logger.warn("Dropping {} metric samples for {} after {} attempts: {}", samples.size(),
+                            config.prefix(), attempt + 1, e.getMessage());
+                    return true;
+                }
+                attempt++;
+                logger.debug("Sending metrics to {} failed, retrying ({}/{}): {}", config.prefix(), attempt,
+                        config.maxRetries(), e.getMessage());
+                long backoffMillis = config.retryBackoff().toMillis() * attempt;
+                try {
+                    if (backoffMillis > 0) {
+                        Thread.sleep(backoffMillis);
+                    }
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected TimeUnit getBaseTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.io.metrics.MetricsConfiguration;
+import org.openhab.io.metrics.MetricsExporter;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.NamingConvention;
+
+/**
+ * The {@link BatchingMetricsExporter} is the base class for exporters pushing metrics through a
+ * {@link BatchingMeterRegistry}. Subclasses only provide the step and the transport.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public abstract class BatchingMetricsExporter extends MetricsExporter {
+
+    private @Nullable BatchingMeterRegistry batchingMeterRegistry = null;
+    private @Nullable CompositeMeterRegistry compositeMeterRegistry = null;
+
+    @Override
+    protected void start(CompositeMeterRegistry meterRegistry, MetricsConfiguration metricsConfiguration) {
+        BatchingRegistryConfig registryConfig = new BatchingRegistryConfig(getName(), getStep(metricsConfiguration),
+                metricsConfiguration.pushBatchSize, metricsConfiguration.pushCompressionEnabled,
+                metricsConfiguration.pushMaxRetries);
+        BatchingMeterRegistry registry = new BatchingMeterRegistry(registryConfig,
+                createSender(metricsConfiguration), getNamingConvention(), Clock.SYSTEM);
+        registry.start(new NamedThreadFactory("metrics-" + getName(), true));
+        meterRegistry.add(registry);
+        batchingMeterRegistry = registry;
+        compositeMeterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void shutdown() {
+        BatchingMeterRegistry registry = batchingMeterRegistry;
+        if (registry != null) {
+            if (compositeMeterRegistry != null) {
+                Objects.requireNonNull(compositeMeterRegistry).remove(registry);
+            }
+            registry.close();
+        }
+        batchingMeterRegistry = null;
+        compositeMeterRegistry = null;
+    }
+
+    /**
+     * @return the name of the exporter, used for thread names and log messages
+     */
+    protected abstract String getName();
+
+    /**
+     * @param metricsConfiguration the current configuration
+     * @return the interval in which metrics are pushed
+     */
+    protected abstract Duration getStep(MetricsConfiguration metricsConfiguration);
+
+    /**
+     * @param metricsConfiguration the current configuration
+     * @return the sender transmitting the batches to the monitoring system
+     */
+    protected abstract MetricsBatchSender createSender(MetricsConfiguration metricsConfiguration);
+
+    protected NamingConvention getNamingConvention() {
+        return NamingConvention.dot;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.step.StepRegistryConfig;
+
+/**
+ * The {@link BatchingRegistryConfig} holds the settings shared by all {@link BatchingMeterRegistry} based exporters.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BatchingRegistryConfig implements StepRegistryConfig {
+
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final String prefix;
+    private final Duration step;
+    private final int batchSize;
+    private final boolean compressed;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public BatchingRegistryConfig(String prefix, Duration step, int batchSize, boolean compressed, int maxRetries) {
+        this(prefix, step, batchSize, compressed, maxRetries, DEFAULT_RETRY_BACKOFF);
+    }
+
+    public BatchingRegistryConfig(String prefix, Duration step, int batchSize, boolean compressed, int maxRetries,
+            Duration retryBackoff) {
+        this.prefix = prefix;
+        this.step = step;
+        this.batchSize = batchSize;
+        this.compressed = compressed;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Override
+    public String prefix() {
+        return prefix;
+    }
+
+    @Override
+    public Duration step() {
+        return step;
+    }
+
+    @Override
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return whether payloads should be compressed if the transport supports it
+     */
+    public boolean compressed() {
+        return compressed;
+    }
+
+    /**
+     * @return how often sending a batch is retried before it is dropped
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return the time waited before the first retry, every further retry waits this time longer
+     */
+    public Duration retryBackoff() {
+        return retryBackoff;
+    }
+
+    @Override
+    @io.micrometer.core.lang.Nullable
+    @Nullable
+    public String get(@Nullable String k) {
+        return null; // accept the rest of the defaults
+    }
+}
@@ -40,6 +40,7 @@ public class InfluxMetricsExporter extends MetricsExporter {
     public void start(CompositeMeterRegistry meterRegistry, MetricsConfiguration metricsConfiguration) {
         influxMeterRegistry = new InfluxMeterRegistry(getInfluxConfig(metricsConfiguration), Clock.SYSTEM);
         meterRegistry.add(influxMeterRegistry);
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -61,6 +62,16 @@ public class InfluxMetricsExporter extends MetricsExporter {
                 return Duration.ofSeconds(metricsConfiguration.influxUpdateIntervalInSeconds);
             }
 
+            @Override
+            public int batchSize() {
+                return metricsConfiguration.pushBatchSize;
+            }
+
+            @Override
+            public boolean compressed() {
+                return metricsConfiguration.pushCompressionEnabled;
+            }
+
             @Override
             public String uri() {
                 return metricsConfiguration.influxURL;
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Statistic;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.NamingConvention;
+
+/**
+ * A {@link MetricSample} is a single measurement of a meter, flattened into the form most push based monitoring
+ * systems expect.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MetricSample {
+
+    public final String name;
+    public final Map<String, String> tags;
+    public final double value;
+    /**
+     * <code>true</code> if the value is the increase since the last step, <code>false</code> if it is a gauge value.
+     */
+    public final boolean delta;
+    public final long timestamp;
+
+    public MetricSample(String name, Map<String, String> tags, double value, boolean delta, long timestamp) {
+        this.name = name;
+        this.tags = tags;
+        this.value = value;
+        this.delta = delta;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Flattens the given meters into samples. Meters with more than one measurement (e.g. timers) get one sample per
+     * measurement, suffixed with the statistic name. Non finite values are skipped.
+     *
+     * @param meters the meters to flatten
+     * @param namingConvention the naming convention to apply to names and tags
+     * @param timestamp the timestamp (in ms since epoch) to assign to all samples
+     * @return the samples
+     */
+    public static List<MetricSample> of(List<Meter> meters, NamingConvention namingConvention, long timestamp) {
+        List<MetricSample> samples = new ArrayList<>();
+        for (Meter meter : meters) {
+            Meter.Id id = meter.getId();
+            String name = id.getConventionName(namingConvention);
+            Map<String, String> tags = new TreeMap<>();
+            for (Tag tag : id.getConventionTags(namingConvention)) {
+                tags.put(tag.getKey(), tag.getValue());
+            }
+            List<Measurement> measurements = new ArrayList<>();
+            meter.measure().forEach(measurements::add);
+            for (Measurement measurement : measurements) {
+                double value = measurement.getValue();
+                if (!Double.isFinite(value)) {
+                    continue;
+                }
+                Statistic statistic = measurement.getStatistic();
+                String sampleName = measurements.size() == 1 ? name
+                        : name + "." + statistic.getTagValueRepresentation();
+                samples.add(new MetricSample(sampleName, tags, value, isDelta(statistic), timestamp));
+            }
+        }
+        return samples;
+    }
+
+    private static boolean isDelta(Statistic statistic) {
+        switch (statistic) {
+            case COUNT:
+            case TOTAL:
+            case TOTAL_TIME:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link MetricsBatchSender} transmits a batch of metric samples to a push based monitoring system.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface MetricsBatchSender {
+
+    /**
+     * Sends the given samples. Implementations must either transmit the whole batch or throw, so that the caller can
+     * retry the batch.
+     *
+     * @param samples the samples to send
+     * @param compressed whether the payload should be compressed if the transport supports it
+     * @throws IOException if the batch could not be transmitted
+     */
+    void send(List<MetricSample> samples, boolean compressed) throws IOException;
+}
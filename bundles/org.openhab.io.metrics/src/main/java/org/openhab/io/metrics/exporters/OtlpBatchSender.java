@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * The {@link OtlpBatchSender} sends metric samples to an OpenTelemetry collector using OTLP/HTTP with JSON encoding.
+ * Step deltas are sent as monotonic sums with delta temporality, everything else as gauges.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpBatchSender implements MetricsBatchSender {
+
+    private static final int AGGREGATION_TEMPORALITY_DELTA = 1;
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    private final String url;
+    private final String serviceName;
+    private final long stepMillis;
+
+    public OtlpBatchSender(String url, String serviceName, long stepMillis) {
+        this.url = url;
+        this.serviceName = serviceName;
+        this.stepMillis = stepMillis;
+    }
+
+    @Override
+    public void send(List<MetricSample> samples, boolean compressed) throws IOException {
+        byte[] payload = toJson(samples).toString().getBytes(StandardCharsets.UTF_8);
+        if (compressed) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(payload);
+            }
+            payload = buffer.toByteArray();
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(payload.length);
+            connection.setRequestProperty("Content-Type", "application/json");
+            if (compressed) {
+                connection.setRequestProperty("Content-Encoding", "gzip");
+            }
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(payload);
+            }
+            int status = connection.getResponseCode();
+            if (status < 200 || status >= 300) {
+                throw new IOException("OTLP endpoint " + url + " responded with HTTP status " + status);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    JsonObject toJson(List<MetricSample> samples) {
+        JsonArray metrics = new JsonArray();
+        for (MetricSample sample : samples) {
+            String timeNanos = Long.toString(TimeUnit.MILLISECONDS.toNanos(sample.timestamp));
+            JsonObject dataPoint = new JsonObject();
+            dataPoint.add("attributes", toAttributes(sample.tags));
+            dataPoint.addProperty("timeUnixNano", timeNanos);
+            dataPoint.addProperty("asDouble", sample.value);
+
+            JsonObject data = new JsonObject();
+            JsonArray dataPoints = new JsonArray();
+            dataPoints.add(dataPoint);
+            data.add("dataPoints", dataPoints);
+
+            JsonObject metric = new JsonObject();
+            metric.addProperty("name", sample.name);
+            if (sample.delta) {
+                dataPoint.addProperty("startTimeUnixNano",
+                        Long.toString(TimeUnit.MILLISECONDS.toNanos(sample.timestamp - stepMillis)));
+                data.addProperty("aggregationTemporality", AGGREGATION_TEMPORALITY_DELTA);
+                data.addProperty("isMonotonic", true);
+                metric.add("sum", data);
+            } else {
+                metric.add("gauge", data);
+            }
+            metrics.add(metric);
+        }
+
+        JsonObject scope = new JsonObject();
+        scope.addProperty("name", "org.openhab.io.metrics");
+        JsonObject scopeMetrics = new JsonObject();
+        scopeMetrics.add("scope", scope);
+        scopeMetrics.add("metrics", metrics);
+        JsonArray scopeMetricsArray = new JsonArray();
+        scopeMetricsArray.add(scopeMetrics);
+
+        JsonObject resource = new JsonObject();
+        resource.add("attributes", toAttributes(Map.of("service.name", serviceName)));
+        JsonObject resourceMetrics = new JsonObject();
+        resourceMetrics.add("resource", resource);
+        resourceMetrics.add("scopeMetrics", scopeMetricsArray);
+        JsonArray resourceMetricsArray = new JsonArray();
+        resourceMetricsArray.add(resourceMetrics);
+
+        JsonObject request = new JsonObject();
+        request.add("resourceMetrics", resourceMetricsArray);
+        return request;
+    }
+
+    private static JsonArray toAttributes(Map<String, String> tags) {
+        JsonArray attributes = new JsonArray();
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            JsonObject value = new JsonObject();
+            value.addProperty("stringValue", tag.getValue());
+            JsonObject attribute = new JsonObject();
+            attribute.addProperty("key", tag.getKey());
+            attribute.add("value", value);
+            attributes.add(attribute);
+        }
+        return attributes;
+    }
+}
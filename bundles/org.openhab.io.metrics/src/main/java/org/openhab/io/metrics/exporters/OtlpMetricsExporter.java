@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.MetricsConfiguration;
+
+/**
+ * The {@link OtlpMetricsExporter} class implements a MetricsExporter for OpenTelemetry collectors (OTLP over HTTP)
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpMetricsExporter extends BatchingMetricsExporter {
+
+    @Override
+    protected String getName() {
+        return "otlp";
+    }
+
+    @Override
+    protected Duration getStep(MetricsConfiguration metricsConfiguration) {
+        return Duration.ofSeconds(metricsConfiguration.otlpUpdateIntervalInSeconds);
+    }
+
+    @Override
+    protected MetricsBatchSender createSender(MetricsConfiguration metricsConfiguration) {
+        return new OtlpBatchSender(metricsConfiguration.otlpURL, metricsConfiguration.otlpServiceName,
+                getStep(metricsConfiguration).toMillis());
+    }
+
+    @Override
+    protected boolean isEnabled(MetricsConfiguration config) {
+        return config.otlpMetricsEnabled;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.util.DoubleFormat;
+
+/**
+ * The {@link StatsdBatchSender} sends metric samples as StatsD lines over UDP, using the DogStatsD tag extension
+ * (<code>name:value|type|#key:value,...</code>). Lines are packed into datagrams up to a maximum packet length.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StatsdBatchSender implements MetricsBatchSender {
+
+    private static final Pattern RESERVED_CHARACTERS = Pattern.compile("[:|@#,=\\s]");
+
+    private final InetSocketAddress address;
+    private final int maxPacketLength;
+
+    public StatsdBatchSender(String host, int port, int maxPacketLength) {
+        this.address = new InetSocketAddress(host, port);
+        this.maxPacketLength = maxPacketLength;
+    }
+
+    @Override
+    public void send(List<MetricSample> samples, boolean compressed) throws IOException {
+        if (address.isUnresolved()) {
+            throw new IOException("Cannot resolve StatsD host " + address.getHostString());
+        }
+        try (DatagramChannel channel = DatagramChannel.open()) {
+            StringBuilder packet = new StringBuilder(maxPacketLength);
+            for (MetricSample sample : samples) {
+                String line = toLine(sample);
+                if (packet.length() > 0 && packet.length() + 1 + line.length() > maxPacketLength) {
+                    sendPacket(channel, packet);
+                    packet.setLength(0);
+                }
+                if (packet.length() > 0) {
+                    packet.append('\n');
+                }
+                packet.append(line);
+            }
+            if (packet.length() > 0) {
+                sendPacket(channel, packet);
+            }
+        }
+    }
+
+    private void sendPacket(DatagramChannel channel, CharSequence packet) throws IOException {
+        channel.send(ByteBuffer.wrap(packet.toString().getBytes(StandardCharsets.UTF_8)), address);
+    }
+
+    static String toLine(MetricSample sample) {
+        StringBuilder line = new StringBuilder(sanitize(sample.name)).append(':')
+                .append(DoubleFormat.decimalOrNan(sample.value)).append(sample.delta ? "|c" : "|g");
+        if (!sample.tags.isEmpty()) {
+            line.append("|#");
+            boolean first = true;
+            for (Map.Entry<String, String> tag : sample.tags.entrySet()) {
+                if (!first) {
+                    line.append(',');
+                }
+                first = false;
+                line.append(sanitize(tag.getKey())).append(':').append(sanitize(tag.getValue()));
+            }
+        }
+        return line.toString();
+    }
+
+    private static String sanitize(String value) {
+        return RESERVED_CHARACTERS.matcher(value).replaceAll("_");
+    }
+}
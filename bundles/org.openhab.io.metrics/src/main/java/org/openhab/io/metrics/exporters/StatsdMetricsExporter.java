@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.MetricsConfiguration;
+
+/**
+ * The {@link StatsdMetricsExporter} class implements a MetricsExporter for StatsD compatible agents (e.g. Telegraf,
+ * the Datadog agent or statsd_exporter)
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StatsdMetricsExporter extends BatchingMetricsExporter {
+
+    @Override
+    protected String getName() {
+        return "statsd";
+    }
+
+    @Override
+    protected Duration getStep(MetricsConfiguration metricsConfiguration) {
+        return Duration.ofSeconds(metricsConfiguration.statsdUpdateIntervalInSeconds);
+    }
+
+    @Override
+    protected MetricsBatchSender createSender(MetricsConfiguration metricsConfiguration) {
+        return new StatsdBatchSender(metricsConfiguration.statsdHost, metricsConfiguration.statsdPort,
+                metricsConfiguration.statsdMaxPacketLength);
+    }
+
+    @Override
+    protected boolean isEnabled(MetricsConfiguration config) {
+        return config.statsdMetricsEnabled;
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.CollectorRegistry;
+
+/**
+ * Tests for {@link PrometheusScrapeCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PrometheusScrapeCacheTest {
+
+    private final MockClock clock = new MockClock();
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT,
+            new CollectorRegistry(), clock);
+    private final Counter counter = registry.counter("openhab.test");
+    private final PrometheusScrapeCache cache = new PrometheusScrapeCache(registry);
+
+    private String scrape(boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.writeTo(out, gzip);
+        if (!gzip) {
+            return out.toString(StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void scrapeIsStreamedDirectlyWhenCachingIsDisabled() throws IOException {
+        assertFalse(cache.isEnabled());
+        counter.increment();
+        assertThat(scrape(false), containsString("openhab_test_total 1.0"));
+
+        counter.increment();
+        assertThat(scrape(true), containsString("openhab_test_total 2.0"));
+    }
+
+    @Test
+    public void scrapeIsReusedWithinTheTimeToLive() throws IOException {
+        cache.setTimeToLive(10);
+        assertTrue(cache.isEnabled());
+        counter.increment();
+        String first = scrape(false);
+        assertThat(first, containsString("openhab_test_total 1.0"));
+
+        counter.increment();
+        clock.add(Duration.ofSeconds(9));
+
+        assertEquals(first, scrape(false));
+        assertEquals(first, scrape(true));
+    }
+
+    @Test
+    public void scrapeIsRefreshedOnceExpired() throws IOException {
+        cache.setTimeToLive(10);
+        counter.increment();
+        assertThat(scrape(false), containsString("openhab_test_total 1.0"));
+
+        counter.increment();
+        clock.add(Duration.ofSeconds(10));
+
+        assertThat(scrape(true), containsString("openhab_test_total 2.0"));
+        assertThat(scrape(false), containsString("openhab_test_total 2.0"));
+    }
+
+    @Test
+    public void changingTheTimeToLiveDiscardsTheCachedScrape() throws IOException {
+        cache.setTimeToLive(10);
+        counter.increment();
+        assertThat(scrape(false), containsString("openhab_test_total 1.0"));
+
+        counter.increment();
+        cache.setTimeToLive(20);
+
+        assertThat(scrape(false), containsString("openhab_test_total 2.0"));
+    }
+}
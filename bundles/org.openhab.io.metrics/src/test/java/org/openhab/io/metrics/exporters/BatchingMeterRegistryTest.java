@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.config.NamingConvention;
+
+/**
+ * Tests for {@link BatchingMeterRegistry} and the StatsD and OTLP senders, using local stand-ins for the agents.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BatchingMeterRegistryTest {
+
+    private static final Duration STEP = Duration.ofSeconds(10);
+
+    private BatchingMeterRegistry createRegistry(MetricsBatchSender sender, int batchSize, boolean compressed,
+            int maxRetries, MockClock clock) {
+        return new BatchingMeterRegistry(
+                new BatchingRegistryConfig("test", STEP, batchSize, compressed, maxRetries, Duration.ZERO), sender,
+                NamingConvention.dot, clock);
+    }
+
+    @Test
+    public void publishSplitsMetersIntoBatches() {
+        List<List<MetricSample>> batches = new CopyOnWriteArrayList<>();
+        MockClock clock = new MockClock();
+        BatchingMeterRegistry registry = createRegistry((samples, compressed) -> batches.add(samples), 2, false, 0,
+                clock);
+        for (int i = 0; i < 5; i++) {
+            registry.counter("openhab.test", "index", String.valueOf(i)).increment();
+        }
+        clock.add(STEP);
+
+        registry.publish();
+
+        assertEquals(3, batches.size());
+        assertEquals(5, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().flatMap(List::stream).allMatch(sample -> sample.delta && sample.value == 1.0));
+    }
+
+    @Test
+    public void failedBatchIsRetriedUpToTheLimit() {
+        AtomicInteger attempts = new AtomicInteger();
+        MockClock clock = new MockClock();
+        BatchingMeterRegistry registry = createRegistry((samples, compressed) -> {
+            attempts.incrementAndGet();
+            throw new IOException("unreachable");
+        }, 10, false, 2, clock);
+        registry.gauge("openhab.test", 42);
+
+        registry.publish();
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void statsdLinesAreSentOverUdp() throws IOException {
+        try (DatagramSocket agent = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            agent.setSoTimeout(5000);
+            MockClock clock = new MockClock();
+            BatchingMeterRegistry registry = createRegistry(
+                    new StatsdBatchSender(agent.getLocalAddress().getHostAddress(), agent.getLocalPort(), 1432), 100,
+                    false, 0, clock);
+            registry.counter("openhab.events", "topic", "openhab/items/a:b").increment(3);
+            registry.gauge("openhab.bundles", 7);
+            clock.add(STEP);
+
+            registry.publish();
+
+            DatagramPacket packet = new DatagramPacket(new byte[1500], 1500);
+            agent.receive(packet);
+            String content = new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8);
+            assertThat(content, containsString("openhab.events:3|c|#topic:openhab/items/a_b"));
+            assertThat(content, containsString("openhab.bundles:7|g"));
+        }
+    }
+
+    @Test
+    public void statsdLinesArePackedIntoPacketsOfLimitedSize() throws IOException {
+        try (DatagramSocket agent = new DatagramSocket(0, InetAddress.getLoopbackAddress())) {
+            agent.setSoTimeout(5000);
+            StatsdBatchSender sender = new StatsdBatchSender(agent.getLocalAddress().getHostAddress(),
+                    agent.getLocalPort(), 64);
+            MockClock clock = new MockClock();
+            BatchingMeterRegistry registry = createRegistry(sender, 100, false, 0, clock);
+            for (int i = 0; i < 10; i++) {
+                registry.gauge("openhab.value" + i, i);
+            }
+
+            registry.publish();
+
+            int lines = 0;
+            while (lines < 10) {
+                DatagramPacket packet = new DatagramPacket(new byte[1500], 1500);
+                agent.receive(packet);
+                assertTrue(packet.getLength() <= 64);
+                lines += new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8).split("\n").length;
+            }
+            assertEquals(10, lines);
+        }
+    }
+
+    @Test
+    public void otlpRequestIsPostedCompressed() throws IOException {
+        HttpServer collector = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        List<String> encodings = new CopyOnWriteArrayList<>();
+        collector.createContext("/v1/metrics", exchange -> {
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            encodings.add(String.valueOf(encoding));
+            try (InputStream in = "gzip".equals(encoding) ? new GZIPInputStream(exchange.getRequestBody())
+                    : exchange.getRequestBody()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                in.transferTo(body);
+                bodies.add(body.toString(StandardCharsets.UTF_8));
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        collector.start();
+        try {
+            String url = "http://" + collector.getAddress().getHostString() + ":" + collector.getAddress().getPort()
+                    + "/v1/metrics";
+            MockClock clock = new MockClock();
+            BatchingMeterRegistry registry = createRegistry(new OtlpBatchSender(url, "openhab", STEP.toMillis()), 100,
+                    true, 0, clock);
+            registry.counter("openhab.events", "topic", "items").increment();
+            registry.gauge("openhab.bundles", 7);
+            clock.add(STEP);
+
+            registry.publish();
+
+            assertEquals(List.of("gzip"), encodings);
+            String body = bodies.get(0);
+            assertThat(body, containsString("\"stringValue\":\"openhab\""));
+            assertThat(body, containsString("\"name\":\"openhab.events\",\"sum\""));
+            assertThat(body, containsString("\"aggregationTemporality\":1"));
+            assertThat(body, containsString("\"name\":\"openhab.bundles\",\"gauge\""));
+        } finally {
+            collector.stop(0);
+        }
+    }
+}
@@ -26,8 +26,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.link.ItemChannelLink;
 import org.openhab.io.neeo.internal.models.NeeoDevice;
 import org.openhab.io.neeo.internal.models.NeeoDeviceChannel;
 import org.openhab.io.neeo.internal.models.NeeoDeviceType;
@@ -71,6 +73,46 @@ public class NeeoDeviceDefinitions {
     /** The file we store definitions in */
     private final File file = new File(NeeoConstants.FILENAME_DEVICEDEFINITIONS);
 
+    /** The search index over the exposed devices */
+    private final NeeoSearchIndex searchIndex;
+
+    /** Re-indexes a thing whenever it changes */
+    private final RegistryChangeListener<Thing> thingListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Thing element) {
+            searchIndex.refresh(new NeeoThingUID(element.getUID()));
+        }
+
+        @Override
+        public void removed(Thing element) {
+            searchIndex.refresh(new NeeoThingUID(element.getUID()));
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            searchIndex.refresh(new NeeoThingUID(element.getUID()));
+        }
+    };
+
+    /** Re-indexes a thing whenever its links change (which changes the exposed channels) */
+    private final RegistryChangeListener<ItemChannelLink> linkListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(ItemChannelLink element) {
+            searchIndex.refresh(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+
+        @Override
+        public void removed(ItemChannelLink element) {
+            searchIndex.refresh(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+
+        @Override
+        public void updated(ItemChannelLink oldElement, ItemChannelLink element) {
+            searchIndex.refresh(new NeeoThingUID(oldElement.getLinkedUID().getThingUID()));
+            searchIndex.refresh(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+    };
+
     /**
      * Create the object based on the {@link ServiceContext} and will read the definitions from the {@link #file}
      *
@@ -84,6 +126,7 @@ public class NeeoDeviceDefinitions {
 
         exposeAll = context.isExposeAllThings();
         exposeNeeoBinding = context.isExposeNeeoBinding();
+        searchIndex = new NeeoSearchIndex(context);
 
         if (file.exists()) {
             try {
@@ -105,6 +148,27 @@ public class NeeoDeviceDefinitions {
                 logger.debug("IOException reading {}: {}", file.toPath(), e.getMessage(), e);
             }
         }
+
+        context.getThingRegistry().addRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().addRegistryChangeListener(linkListener);
+    }
+
+    /**
+     * Stops tracking the registries and discards the search index
+     */
+    public void close() {
+        context.getThingRegistry().removeRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().removeRegistryChangeListener(linkListener);
+        searchIndex.clear();
+    }
+
+    /**
+     * Returns the search index over all exposed devices
+     *
+     * @return the non-null search index
+     */
+    public NeeoSearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     /**
@@ -148,6 +212,7 @@ public class NeeoDeviceDefinitions {
 
         uidToDevice.put(device.getUid(), device);
         save();
+        searchIndex.refresh(device.getUid());
     }
 
     /**
@@ -162,6 +227,7 @@ public class NeeoDeviceDefinitions {
         final boolean found = uidToDevice.remove(uid) != null;
         if (found) {
             save();
+            searchIndex.refresh(uid);
         }
         return found;
     }
@@ -174,8 +240,7 @@ public class NeeoDeviceDefinitions {
     public List<NeeoDevice> getExposed() {
         final List<NeeoDevice> devices = new ArrayList<>();
         for (NeeoDevice device : exposeAll || exposeNeeoBinding ? getAllDevices() : uidToDevice.values()) {
-            if (device.getExposedChannels().length > 0 && !NeeoDeviceType.EXCLUDE.equals(device.getType())
-                    && !device.getType().toString().isEmpty()) {
+            if (isExposed(device)) {
                 devices.add(device);
             }
         }
@@ -183,6 +248,42 @@ public class NeeoDeviceDefinitions {
         return devices;
     }
 
+    /**
+     * Returns the {@link NeeoDevice} for the given {@link NeeoThingUID} if it's part of {@link #getExposed()}
+     *
+     * @param uid the non-null uid
+     * @return the exposed device or null if not exposed
+     */
+    @Nullable
+    NeeoDevice getExposedDevice(NeeoThingUID uid) {
+        Objects.requireNonNull(uid, "uid cannot be null");
+
+        final NeeoDevice device;
+        if (exposeAll || exposeNeeoBinding) {
+            final NeeoDevice definedDevice = uidToDevice.get(uid);
+            if (definedDevice == null) {
+                final Thing thing = context.getThingRegistry().get(uid.asThingUID());
+                device = thing == null ? null : converter.convert(thing);
+            } else {
+                device = getMergedDevice(uid, definedDevice);
+            }
+        } else {
+            device = uidToDevice.get(uid);
+        }
+        return device != null && isExposed(device) ? device : null;
+    }
+
+    /**
+     * Determines if a device is exposed (has exposed channels and the type isn't {@link NeeoDeviceType#EXCLUDE})
+     *
+     * @param device the non-null device
+     * @return true if exposed, false otherwise
+     */
+    private boolean isExposed(NeeoDevice device) {
+        return device.getExposedChannels().length > 0 && !NeeoDeviceType.EXCLUDE.equals(device.getType())
+                && !device.getType().toString().isEmpty();
+    }
+
     /**
      *
      * Checks to see if the specified itemName is bound given the {@link NeeoDeviceKeys}. This method will find any
@@ -286,18 +387,9 @@ public class NeeoDeviceDefinitions {
     public List<NeeoDevice> getAllDevices() {
         final List<NeeoDevice> devices = new ArrayList<>();
         for (Entry<NeeoThingUID, NeeoDevice> entry : uidToDevice.entrySet()) {
-            if (NeeoConstants.NEEOIO_BINDING_ID.equalsIgnoreCase(entry.getKey().getBindingId())) {
-                devices.add(entry.getValue());
-            } else {
-                final Thing thing = context.getThingRegistry().get(entry.getKey().asThingUID());
-                if (thing == null) {
-                    logger.debug("Thing {} doesn't exist in registry anymore", entry.getKey());
-                } else {
-                    final NeeoDevice mergedDevice = entry.getValue().merge(context);
-                    if (mergedDevice != null) {
-                        devices.add(mergedDevice);
-                    }
-                }
+            final NeeoDevice device = getMergedDevice(entry.getKey(), entry.getValue());
+            if (device != null) {
+                devices.add(device);
             }
         }
 
@@ -313,6 +405,27 @@ public class NeeoDeviceDefinitions {
         return devices;
     }
 
+    /**
+     * Merges a device definition with the latest openHAB thing definition. Virtual devices are returned as is.
+     *
+     * @param uid the non-null uid of the device
+     * @param device the non-null device definition
+     * @return the merged device or null if the thing doesn't exist anymore
+     */
+    @Nullable
+    private NeeoDevice getMergedDevice(NeeoThingUID uid, NeeoDevice device) {
+        if (NeeoConstants.NEEOIO_BINDING_ID.equalsIgnoreCase(uid.getBindingId())) {
+            return device;
+        }
+
+        final Thing thing = context.getThingRegistry().get(uid.asThingUID());
+        if (thing == null) {
+            logger.debug("Thing {} doesn't exist in registry anymore", uid);
+            return null;
+        }
+        return device.merge(context);
+    }
+
     /**
      * Returns a {@link NeeoDeviceChannel} that represents the given itemname (or null if itemname is not found)
      *
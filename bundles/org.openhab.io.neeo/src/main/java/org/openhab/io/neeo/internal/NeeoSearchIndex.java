@@ -0,0 +1,305 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.neeo.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.binding.BindingInfo;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.type.ThingType;
+import org.openhab.io.neeo.internal.models.NeeoDevice;
+import org.openhab.io.neeo.internal.models.NeeoThingUID;
+import org.openhab.io.neeo.internal.models.TokenScore;
+
+/**
+ * An inverted index over the search terms of all exposed {@link NeeoDevice}. Every device is broken up into the same
+ * tokens {@link TokenSearch} scores (device name, binding id, location, vendor, thing type label and binding name).
+ * Tokens are further indexed by all their substrings of up to {@link #GRAM_LENGTH} characters, so that a search only
+ * has to look at the tokens that can contain the search term instead of at every device.
+ *
+ * The index is built on the first search and then kept up to date by {@link NeeoDeviceDefinitions} one device at a
+ * time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NeeoSearchIndex {
+
+    /** The delimiter used to split search terms */
+    private static final char DELIMITER = ' ';
+
+    /** The maximum length of the substrings tokens are indexed by */
+    private static final int GRAM_LENGTH = 3;
+
+    /** The service context */
+    private final ServiceContext context;
+
+    /** The indexed devices and their tokens (with number of occurrences) */
+    private final Map<NeeoThingUID, IndexedDevice> devices = new HashMap<>();
+
+    /** The devices (with number of occurrences) by lowercase token */
+    private final Map<String, Map<NeeoThingUID, Integer>> postings = new HashMap<>();
+
+    /** The lowercase tokens by substring */
+    private final Map<String, Set<String>> grams = new HashMap<>();
+
+    /** Whether the index has been built */
+    private boolean built = false;
+
+    /**
+     * Creates the index based on the {@link ServiceContext}
+     *
+     * @param context the non-null context
+     */
+    NeeoSearchIndex(ServiceContext context) {
+        Objects.requireNonNull(context, "context cannot be null");
+        this.context = context;
+    }
+
+    /**
+     * Scores all exposed devices against the needles. Devices not matching any needle are scored with the base score
+     * only.
+     *
+     * @param needles the non-null search terms
+     * @param baseScore the score every device has (for terms that match every device)
+     * @return the non-null, possibly empty list of scores for all exposed devices
+     */
+    synchronized List<TokenScore<NeeoDevice>> search(String[] needles, int baseScore) {
+        Objects.requireNonNull(needles, "needles cannot be null");
+        ensureBuilt();
+
+        final Map<NeeoThingUID, Integer> scores = new HashMap<>();
+        for (String needle : needles) {
+            final String lowerNeedle = needle.toLowerCase();
+            for (String token : getCandidateTokens(lowerNeedle)) {
+                final int tokenScore = TokenSearch.searchAlgorithm(token, lowerNeedle);
+                if (tokenScore == 0) {
+                    continue;
+                }
+                final Map<NeeoThingUID, Integer> tokenDevices = postings.get(token);
+                if (tokenDevices != null) {
+                    for (Entry<NeeoThingUID, Integer> entry : tokenDevices.entrySet()) {
+                        scores.merge(entry.getKey(), tokenScore * entry.getValue(), Integer::sum);
+                    }
+                }
+            }
+        }
+
+        final List<TokenScore<NeeoDevice>> results = new ArrayList<>(devices.size());
+        for (IndexedDevice indexed : devices.values()) {
+            final Integer score = scores.get(indexed.device.getUid());
+            results.add(new TokenScore<>(baseScore + (score == null ? 0 : score), indexed.device));
+        }
+        return results;
+    }
+
+    /**
+     * Re-indexes the device for the given {@link NeeoThingUID} (or removes it if it's no longer exposed). Does nothing
+     * if the index hasn't been built yet.
+     *
+     * @param uid the non-null uid
+     */
+    synchronized void refresh(NeeoThingUID uid) {
+        Objects.requireNonNull(uid, "uid cannot be null");
+        if (!built) {
+            return;
+        }
+
+        remove(uid);
+        final NeeoDevice device = context.getDefinitions().getExposedDevice(uid);
+        if (device != null) {
+            add(device);
+        }
+    }
+
+    /**
+     * Discards the index. It will be rebuilt on the next search.
+     */
+    synchronized void clear() {
+        devices.clear();
+        postings.clear();
+        grams.clear();
+        built = false;
+    }
+
+    /**
+     * Builds the index from all exposed devices if it hasn't been built yet
+     */
+    private void ensureBuilt() {
+        if (!built) {
+            for (NeeoDevice device : context.getDefinitions().getExposed()) {
+                add(device);
+            }
+            built = true;
+        }
+    }
+
+    /**
+     * Returns all indexed tokens that contain the lowercase needle
+     *
+     * @param needle the non-null, lowercase needle
+     * @return a non-null, possibly empty collection of tokens
+     */
+    private Set<String> getCandidateTokens(String needle) {
+        if (needle.length() <= GRAM_LENGTH) {
+            final Set<String> tokens = grams.get(needle);
+            return tokens == null ? Set.of() : tokens;
+        }
+
+        // use the most selective substring and verify the candidates
+        Set<String> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            final Set<String> tokens = grams.get(needle.substring(i, i + GRAM_LENGTH));
+            if (tokens == null) {
+                return Set.of();
+            }
+            if (smallest == null || tokens.size() < smallest.size()) {
+                smallest = tokens;
+            }
+        }
+
+        final Set<String> matches = new HashSet<>();
+        if (smallest != null) {
+            for (String token : smallest) {
+                if (token.contains(needle)) {
+                    matches.add(token);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void add(NeeoDevice device) {
+        final NeeoThingUID uid = device.getUid();
+        final Map<String, Integer> tokens = getTokens(device);
+        devices.put(uid, new IndexedDevice(device, tokens));
+
+        for (Entry<String, Integer> entry : tokens.entrySet()) {
+            final String token = entry.getKey();
+            final Map<NeeoThingUID, Integer> tokenDevices = postings.computeIfAbsent(token, k -> {
+                for (String gram : getGrams(token)) {
+                    grams.computeIfAbsent(gram, g -> new HashSet<>()).add(token);
+                }
+                return new HashMap<>();
+            });
+            tokenDevices.put(uid, entry.getValue());
+        }
+    }
+
+    private void remove(NeeoThingUID uid) {
+        final IndexedDevice indexed = devices.remove(uid);
+        if (indexed == null) {
+            return;
+        }
+
+        for (String token : indexed.tokens.keySet()) {
+            final Map<NeeoThingUID, Integer> tokenDevices = postings.get(token);
+            if (tokenDevices != null) {
+                tokenDevices.remove(uid);
+                if (tokenDevices.isEmpty()) {
+                    postings.remove(token);
+                    for (String gram : getGrams(token)) {
+                        final Set<String> gramTokens = grams.get(gram);
+                        if (gramTokens != null) {
+                            gramTokens.remove(token);
+                            if (gramTokens.isEmpty()) {
+                                grams.remove(gram);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets all the lowercase tokens (and the number of times they occur) of a device. These are the same terms
+     * {@link TokenSearch} has always searched.
+     *
+     * @param device the non-null device
+     * @return the non-null, possibly empty map of tokens to occurrences
+     */
+    private Map<String, Integer> getTokens(NeeoDevice device) {
+        final Map<String, Integer> tokens = new HashMap<>();
+        addTokens(tokens, device.getName());
+        addTokens(tokens, device.getUid().getBindingId());
+
+        final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
+        if (thing != null) {
+            addTokens(tokens, thing.getLocation());
+
+            final Map<@NonNull String, String> properties = thing.getProperties();
+            addTokens(tokens, properties.get(Thing.PROPERTY_VENDOR));
+
+            final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
+            if (tt != null) {
+                addTokens(tokens, tt.getLabel());
+
+                final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
+                if (bi != null) {
+                    addTokens(tokens, bi.getName());
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTokens(Map<String, Integer> tokens, @Nullable String haystack) {
+        if (haystack == null || haystack.isEmpty()) {
+            return;
+        }
+        for (String token : StringUtils.split(haystack, DELIMITER)) {
+            tokens.merge(token.toLowerCase(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Gets all distinct substrings of the token with a length of 1 up to {@link #GRAM_LENGTH}
+     *
+     * @param token the non-null token
+     * @return the non-null set of substrings
+     */
+    private static Set<String> getGrams(String token) {
+        final Set<String> result = new HashSet<>();
+        for (int len = 1; len <= GRAM_LENGTH; len++) {
+            for (int i = 0; i + len <= token.length(); i++) {
+                result.add(token.substring(i, i + len));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A device together with the tokens it was indexed with
+     */
+    private static class IndexedDevice {
+        private final NeeoDevice device;
+        private final Map<String, Integer> tokens;
+
+        private IndexedDevice(NeeoDevice device, Map<String, Integer> tokens) {
+            this.device = device;
+            this.tokens = tokens;
+        }
+    }
+}
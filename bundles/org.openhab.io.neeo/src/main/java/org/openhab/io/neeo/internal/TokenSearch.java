@@ -15,16 +15,11 @@ package org.openhab.io.neeo.internal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.openhab.core.binding.BindingInfo;
-import org.openhab.core.thing.Thing;
-import org.openhab.core.thing.type.ThingType;
 import org.openhab.io.neeo.internal.models.NeeoDevice;
 import org.openhab.io.neeo.internal.models.TokenScore;
 import org.slf4j.Logger;
@@ -32,7 +27,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The class emulates the same search pattern that the NEEO brain uses (https://github.com/neophob/tokensearch.js) on
- * all the exposed things in the registry.
+ * all the exposed things in the registry. The things are looked up through the {@link NeeoSearchIndex}.
  *
  * @author Tim Roberts - Initial Contribution
  */
@@ -90,44 +85,16 @@ public class TokenSearch {
     public Result search(String query) {
         NeeoUtil.requireNotEmpty(query, "query cannot be empty");
 
-        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
-
         final String[] needles = StringUtils.split(query, DELIMITER);
-        int maxScore = -1;
-
-        for (NeeoDevice device : context.getDefinitions().getExposed()) {
-            int score = search(device.getName(), needles);
-            score += search("openhab", needles);
-            // score += searchAlgorithm(thing.getLocation(), needles);
-            score += search(device.getUid().getBindingId(), needles);
-
-            final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
-            if (thing != null) {
-                final String location = thing.getLocation();
-                if (location != null && !location.isEmpty()) {
-                    score += search(location, needles);
-                }
-
-                final Map<@NonNull String, String> properties = thing.getProperties();
-                final String vendor = properties.get(Thing.PROPERTY_VENDOR);
-                if (vendor != null && !vendor.isEmpty()) {
-                    score += search(vendor, needles);
-                }
-
-                final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
-                if (tt != null) {
-                    score += search(tt.getLabel(), needles);
-
-                    final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
-                    if (bi != null) {
-                        score += search(bi.getName(), needles);
-                    }
-                }
-            }
 
-            maxScore = Math.max(maxScore, score);
+        // every device is scored against "openhab", so that part of the score is the same for all of them
+        final int baseScore = search("openhab", needles);
+        final List<TokenScore<NeeoDevice>> results = context.getDefinitions().getSearchIndex().search(needles,
+                baseScore);
 
-            results.add(new TokenScore<>(score, device));
+        int maxScore = -1;
+        for (TokenScore<NeeoDevice> result : results) {
+            maxScore = Math.max(maxScore, (int) result.getScore());
         }
 
         return new Result(applyThreshold(results, maxScore, threshold), maxScore);
@@ -156,28 +123,36 @@ public class TokenSearch {
         Objects.requireNonNull(needles, "needles cannot be null");
 
         int score = 0;
+        for (String needle : needles) {
+            score += searchAlgorithm(haystack, needle);
+        }
+        return score;
+    }
 
-        int arrayLength = needles.length;
-        for (int i = 0; i < arrayLength; i++) {
-            String needle = needles[i];
-            int stringPos = haystack.toLowerCase().indexOf(needle.toLowerCase());
-            int tokenScore = 0;
-            if (stringPos > -1) {
-                if (needle.length() < 2) {
-                    tokenScore = 1;
+    /**
+     * The search algorithm (lifted from tokensearch.js) for a single needle
+     *
+     * @param haystack the search term
+     * @param needle the item to search
+     * @return the score of the match
+     */
+    static int searchAlgorithm(String haystack, String needle) {
+        int stringPos = haystack.toLowerCase().indexOf(needle.toLowerCase());
+        int tokenScore = 0;
+        if (stringPos > -1) {
+            if (needle.length() < 2) {
+                tokenScore = 1;
+            } else {
+                if (haystack.equalsIgnoreCase(needle)) {
+                    tokenScore = 6;
+                } else if (stringPos == 0) {
+                    tokenScore = 2;
                 } else {
-                    if (haystack.equalsIgnoreCase(needle)) {
-                        tokenScore = 6;
-                    } else if (stringPos == 0) {
-                        tokenScore = 2;
-                    } else {
-                        tokenScore = 1;
-                    }
+                    tokenScore = 1;
                 }
             }
-            score += tokenScore;
         }
-        return score;
+        return tokenScore;
     }
 
     /**
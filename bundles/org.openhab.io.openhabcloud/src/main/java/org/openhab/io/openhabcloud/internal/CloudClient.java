@@ -18,23 +18,28 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
+import org.eclipse.jetty.util.thread.Scheduler;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.openhab.core.OpenHAB;
@@ -46,6 +51,7 @@ import io.socket.client.Manager;
 import io.socket.client.Socket;
 import io.socket.emitter.Emitter;
 import io.socket.engineio.client.Transport;
+import io.socket.thread.EventThread;
 
 /**
  * This class provides communication between openHAB and the openHAB Cloud service.
@@ -63,6 +69,18 @@ public class CloudClient {
      */
     private final Logger logger = LoggerFactory.getLogger(CloudClient.class);
 
+    /*
+     * Response content of proxied requests is collected into chunks of this size before it is sent to the openHAB
+     * Cloud
+     */
+    private static final int RESPONSE_CHUNK_SIZE = 64 * 1024;
+
+    /*
+     * A partially filled chunk is sent at the latest this long after its first content arrived, so streamed responses
+     * like server-sent events are relayed without waiting for a full chunk
+     */
+    private static final long RESPONSE_FLUSH_DELAY_MILLIS = 20;
+
     /*
      * This variable holds base URL for the openHAB Cloud connections
      */
@@ -96,7 +114,7 @@ public class CloudClient {
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
-    private boolean isConnected;
+    private volatile boolean isConnected;
 
     /*
      * This variable holds version of local openHAB
@@ -322,8 +340,9 @@ public class CloudClient {
             }
             request.method(method);
             if (!requestBody.isEmpty()) {
-                request.content(new BytesContentProvider(requestBody.getBytes()));
+                request.content(new BytesContentProvider(requestBody.getBytes(StandardCharsets.UTF_8)));
             }
+            ResponseContentRelay contentRelay = new ResponseContentRelay(requestId);
 
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
@@ -339,21 +358,7 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
-                logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
-            }).onRequestFailure((origRequest, failure) -> {
+            }).onResponseContentAsync(contentRelay).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
                 try {
@@ -379,6 +384,8 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                // send the remaining content before the response is finished
+                contentRelay.flush();
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -397,6 +404,101 @@ public class CloudClient {
         }
     }
 
+    /**
+     * Relays the response content of a proxied request to the openHAB Cloud. Content of back-to-back reads is
+     * collected into chunks of up to {@link #RESPONSE_CHUNK_SIZE} bytes, so that small reads of the local server do not
+     * cause a socket message each. A chunk is sent as soon as it is full, or {@link #RESPONSE_FLUSH_DELAY_MILLIS} after
+     * its first content arrived. The delay is not restarted by further content, so a steady trickle of content, like
+     * frequent server-sent events, is still relayed with a bounded delay. The chunk buffer grows with the content, so
+     * content is copied again when the buffer grows and when a partially filled chunk is sent. More content is only
+     * demanded from the local server after the socket has taken over a full chunk, which bounds the buffered content
+     * per request to a single chunk.
+     */
+    private class ResponseContentRelay implements Response.AsyncContentListener {
+        private final int requestId;
+        private byte @Nullable [] chunk;
+        private int chunkLength;
+        private Scheduler.@Nullable Task flushTask;
+
+        ResponseContentRelay(int requestId) {
+            this.requestId = requestId;
+        }
+
+        @Override
+        public void onContent(Response response, ByteBuffer content, Callback callback) {
+            logger.debug("onResponseContent: {}, content size {}", requestId, content.remaining());
+            boolean sent = false;
+            synchronized (this) {
+                while (content.hasRemaining()) {
+                    byte[] buffer = chunk;
+                    if (buffer == null) {
+                        // small responses do not need a full chunk
+                        buffer = new byte[Math.min(RESPONSE_CHUNK_SIZE, Math.max(content.remaining(), 4096))];
+                        chunk = buffer;
+                    } else if (chunkLength == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, Math.min(RESPONSE_CHUNK_SIZE, buffer.length * 2));
+                        chunk = buffer;
+                    }
+                    int length = Math.min(content.remaining(), buffer.length - chunkLength);
+                    content.get(buffer, chunkLength, length);
+                    chunkLength += length;
+                    if (chunkLength == RESPONSE_CHUNK_SIZE) {
+                        sendChunk();
+                        sent = true;
+                    }
+                }
+                // counted from the first content of the chunk, see the class documentation
+                if (chunkLength > 0 && flushTask == null) {
+                    flushTask = jettyClient.getScheduler().schedule(this::flush, RESPONSE_FLUSH_DELAY_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+            if (sent) {
+                // socket.io emits on its event thread, so this runs once the socket has taken over the chunk
+                EventThread.exec(callback::succeeded);
+            } else {
+                callback.succeeded();
+            }
+        }
+
+        /**
+         * Sends the content collected so far
+         */
+        synchronized void flush() {
+            if (chunkLength > 0) {
+                sendChunk();
+            }
+        }
+
+        private void sendChunk() {
+            Scheduler.Task task = flushTask;
+            if (task != null) {
+                task.cancel();
+                flushTask = null;
+            }
+            byte[] buffer = chunk;
+            if (buffer == null) {
+                return;
+            }
+            byte[] body = chunkLength == buffer.length ? buffer : Arrays.copyOf(buffer, chunkLength);
+            // the emitted chunk is owned by the socket now, the next content goes into a new one
+            chunk = null;
+            chunkLength = 0;
+            JSONObject responseJson = new JSONObject();
+            try {
+                responseJson.put("id", requestId);
+                responseJson.put("body", body);
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", new String(body, StandardCharsets.UTF_8));
+                }
+                socket.emit("responseContentBinary", responseJson);
+                logger.trace("Sent {} bytes of content to request {}", body.length, requestId);
+            } catch (JSONException e) {
+                logger.debug("{}", e.getMessage());
+            }
+        }
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -23,10 +23,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
@@ -73,10 +75,13 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_UPDATE_AGGREGATION_WINDOW = "updateAggregationWindow";
+    private static final String CFG_UPDATE_BACKLOG_SIZE = "updateBacklogSize";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
     private static final int DEFAULT_LOCAL_OPENHAB_REQUEST_TIMEOUT = 30000;
+    private static final int DEFAULT_UPDATE_BACKLOG_SIZE = 1000;
     private static final String HTTPCLIENT_NAME = "openhabcloud";
     private static final String CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
     private static final SecureRandom SR = new SecureRandom();
@@ -85,6 +90,9 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     public static String clientVersion = null;
     private CloudClient cloudClient;
+    private @Nullable ItemUpdateAggregator updateAggregator;
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
     private String cloudBaseUrl = null;
     private final HttpClient httpClient;
     protected final ItemRegistry itemRegistry;
@@ -185,6 +193,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     @Deactivate
     protected void deactivate() {
         logger.debug("openHAB Cloud connector deactivated");
+        stopUpdateAggregator();
         cloudClient.shutdown();
         try {
             httpClient.stop();
@@ -228,6 +237,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         logger.debug("UUID = {}, secret = {}", InstanceUUID.get(), getSecret());
 
+        stopUpdateAggregator();
         if (cloudClient != null) {
             cloudClient.shutdown();
         }
@@ -246,9 +256,40 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         cloudClient.setOpenHABVersion(OpenHAB.getVersion());
         cloudClient.connect();
         cloudClient.setListener(this);
+
+        int aggregationWindow = getIntConfig(config, CFG_UPDATE_AGGREGATION_WINDOW, 0);
+        if (aggregationWindow > 0) {
+            int backlogSize = getIntConfig(config, CFG_UPDATE_BACKLOG_SIZE, DEFAULT_UPDATE_BACKLOG_SIZE);
+            logger.debug("Aggregating item updates every {} ms, keeping up to {} pending items", aggregationWindow,
+                    backlogSize);
+            updateAggregator = new ItemUpdateAggregator(cloudClient, scheduler, aggregationWindow, backlogSize);
+        }
         NotificationAction.cloudService = this;
     }
 
+    private int getIntConfig(Map<String, ?> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        } else if (value != null) {
+            try {
+                return Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for configuration parameter '{}', using {}", value, key,
+                        defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private void stopUpdateAggregator() {
+        ItemUpdateAggregator aggregator = updateAggregator;
+        if (aggregator != null) {
+            aggregator.stop();
+            updateAggregator = null;
+        }
+    }
+
     @Override
     public String getActionClassName() {
         return NotificationAction.class.getCanonicalName();
@@ -366,7 +407,12 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     public void receive(Event event) {
         ItemStateEvent ise = (ItemStateEvent) event;
         if (exposedItems != null && exposedItems.contains(ise.getItemName())) {
-            cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            ItemUpdateAggregator aggregator = updateAggregator;
+            if (aggregator != null) {
+                aggregator.addItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            } else {
+                cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            }
         }
     }
 }
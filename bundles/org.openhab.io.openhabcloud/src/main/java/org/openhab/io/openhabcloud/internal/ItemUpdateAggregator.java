@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ItemUpdateAggregator} collects item updates for a configurable window and only forwards the latest
+ * state of each item to the openHAB Cloud. While the connection is down, pending updates are kept in a bounded
+ * backlog, evicting the oldest item once the backlog is full.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateAggregator {
+
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateAggregator.class);
+
+    private final CloudClient cloudClient;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final int maxBacklog;
+
+    /* pending item states in the order the items were first updated */
+    private final Map<String, String> pendingUpdates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean stopped = false;
+
+    private final AtomicLong sentUpdates = new AtomicLong();
+    private final AtomicLong coalescedUpdates = new AtomicLong();
+    private final AtomicLong droppedUpdates = new AtomicLong();
+
+    /**
+     * Constructor of ItemUpdateAggregator
+     *
+     * @param cloudClient the client used to send the updates
+     * @param scheduler the scheduler which runs the flush job
+     * @param windowMillis the time in milliseconds updates are collected before they are sent
+     * @param maxBacklog the maximum number of items with pending updates
+     */
+    public ItemUpdateAggregator(CloudClient cloudClient, ScheduledExecutorService scheduler, long windowMillis,
+            int maxBacklog) {
+        this.cloudClient = cloudClient;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+        this.maxBacklog = Math.max(1, maxBacklog);
+    }
+
+    /**
+     * Queues an item update. A pending update of the same item is replaced.
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     */
+    public synchronized void addItemUpdate(String itemName, String itemState) {
+        if (stopped) {
+            return;
+        }
+        if (pendingUpdates.put(itemName, itemState) != null) {
+            coalescedUpdates.incrementAndGet();
+        } else if (pendingUpdates.size() > maxBacklog) {
+            Iterator<String> iterator = pendingUpdates.keySet().iterator();
+            String evicted = iterator.next();
+            iterator.remove();
+            droppedUpdates.incrementAndGet();
+            logger.debug("Update backlog is full, dropped pending update of item '{}'", evicted);
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        ScheduledFuture<?> job = flushJob;
+        if (job == null || job.isDone()) {
+            flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        Map<String, String> updates;
+        synchronized (this) {
+            flushJob = null;
+            if (stopped || pendingUpdates.isEmpty()) {
+                return;
+            }
+            if (!cloudClient.isConnected()) {
+                // keep the backlog until the connection is re-established
+                scheduleFlush();
+                return;
+            }
+            updates = new LinkedHashMap<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+        for (Entry<String, String> update : updates.entrySet()) {
+            cloudClient.sendItemUpdate(update.getKey(), update.getValue());
+        }
+        sentUpdates.addAndGet(updates.size());
+        logger.trace("Sent {} item updates, {} coalesced and {} dropped in total", updates.size(),
+                coalescedUpdates.get(), droppedUpdates.get());
+    }
+
+    /**
+     * Stops the aggregator and discards all pending updates.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        ScheduledFuture<?> job = flushJob;
+        if (job != null) {
+            job.cancel(false);
+            flushJob = null;
+        }
+        pendingUpdates.clear();
+        logger.debug("Item update aggregator stopped: {} sent, {} coalesced, {} dropped", sentUpdates.get(),
+                coalescedUpdates.get(), droppedUpdates.get());
+    }
+
+    /**
+     * Returns the number of item updates sent to the openHAB Cloud
+     */
+    public long getSentUpdates() {
+        return sentUpdates.get();
+    }
+
+    /**
+     * Returns the number of item updates that were replaced by a later update of the same item
+     */
+    public long getCoalescedUpdates() {
+        return coalescedUpdates.get();
+    }
+
+    /**
+     * Returns the number of item updates that were dropped because the backlog was full
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates.get();
+    }
+}